@@ -0,0 +1,216 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Implementation of the {@link EvolutionEvents} with the Java Flight Recorder
+ * API. This class is compiled from the optional {@code jfr} source set, since
+ * the {@code jdk.jfr} API is not part of the Java 8 platform API, and is
+ * loaded reflectively by the {@link EvolutionEvents} class.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class JfrEvolutionEvents implements EvolutionEvents.Factory {
+
+	@Override
+	public EvolutionEvents.Evolve evolve() {
+		return begin(new EvolveEvent());
+	}
+
+	@Override
+	public EvolutionEvents.Evaluate evaluate() {
+		return begin(new EvaluateEvent());
+	}
+
+	@Override
+	public EvolutionEvents.Select select() {
+		return begin(new SelectEvent());
+	}
+
+	@Override
+	public EvolutionEvents.Alter alter() {
+		return begin(new AlterEvent());
+	}
+
+	private static <E extends Event> E begin(final E event) {
+		event.begin();
+		return event;
+	}
+
+
+	/* *************************************************************************
+	 * Event classes.
+	 **************************************************************************/
+
+	@Name("org.jenetics.Evolve")
+	@Label("Evolve")
+	@Category("Jenetics")
+	@Description("One evolution step of the evolution engine")
+	static final class EvolveEvent extends Event implements EvolutionEvents.Evolve {
+		@Label("Generation")
+		long generation;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Alter Count")
+		int alterCount;
+
+		@Label("Kill Count")
+		int killCount;
+
+		@Label("Invalid Count")
+		int invalidCount;
+
+		@Label("Repair Count")
+		int repairCount;
+
+		@Override
+		public void commit(
+			final long generation,
+			final int populationSize,
+			final int alterCount,
+			final int killCount,
+			final int invalidCount,
+			final int repairCount
+		) {
+			if (shouldCommit()) {
+				this.generation = generation;
+				this.populationSize = populationSize;
+				this.alterCount = alterCount;
+				this.killCount = killCount;
+				this.invalidCount = invalidCount;
+				this.repairCount = repairCount;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.jenetics.Evaluate")
+	@Label("Evaluate")
+	@Category("Jenetics")
+	@Description("Fitness evaluation of the population of one generation")
+	static final class EvaluateEvent extends Event implements EvolutionEvents.Evaluate {
+		@Label("Generation")
+		long generation;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Evaluation Count")
+		int evaluationCount;
+
+		@Label("Cache Hit Count")
+		int cacheHitCount;
+
+		@Override
+		public void commit(
+			final long generation,
+			final int populationSize,
+			final int evaluationCount,
+			final int cacheHitCount
+		) {
+			if (shouldCommit()) {
+				this.generation = generation;
+				this.populationSize = populationSize;
+				this.evaluationCount = evaluationCount;
+				this.cacheHitCount = cacheHitCount;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.jenetics.Select")
+	@Label("Select")
+	@Category("Jenetics")
+	@Description("Selection of the offspring or survivor population")
+	static final class SelectEvent extends Event implements EvolutionEvents.Select {
+		@Label("Generation")
+		long generation;
+
+		@Label("Selector")
+		String selector;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Selected Count")
+		int count;
+
+		@Override
+		public void commit(
+			final long generation,
+			final Object selector,
+			final int populationSize,
+			final int count
+		) {
+			if (shouldCommit()) {
+				this.generation = generation;
+				this.selector = selector.getClass().getName();
+				this.populationSize = populationSize;
+				this.count = count;
+				commit();
+			}
+		}
+	}
+
+	@Name("org.jenetics.Alter")
+	@Label("Alter")
+	@Category("Jenetics")
+	@Description("Altering of the offspring population by a single alterer")
+	static final class AlterEvent extends Event implements EvolutionEvents.Alter {
+		@Label("Generation")
+		long generation;
+
+		@Label("Alterer")
+		Class<?> alterer;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Alter Count")
+		int alterCount;
+
+		@Override
+		public void commit(
+			final long generation,
+			final Object alterer,
+			final int populationSize,
+			final int alterCount
+		) {
+			if (shouldCommit()) {
+				this.generation = generation;
+				this.alterer = alterer.getClass();
+				this.populationSize = populationSize;
+				this.alterCount = alterCount;
+				commit();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.Math.exp;
+import static org.jenetics.internal.math.arithmetic.divide;
+import static org.jenetics.internal.math.arithmetic.normalize;
+import static org.jenetics.internal.math.statistics.max;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the fused Boltzmann probability calculation with the former,
+ * multi-pass, implementation.
+ *
+ * <pre>
+ * n          multi-pass  fused
+ * 10000         0.46ms    0.44ms
+ * 100000        5.04ms    4.63ms
+ * 1000000      51.6ms    49.0ms
+ * 10000000    531ms     512ms
+ * </pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoltzmannSelectorPerf {
+
+	@Param({"10000", "100000", "1000000", "10000000"})
+	public int size;
+
+	private double[] fitness;
+	private double[] values;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		fitness = new Random(123).doubles(size, 0, 10).toArray();
+		values = new double[size];
+	}
+
+	@Benchmark
+	public double[] multiPass() {
+		System.arraycopy(fitness, 0, values, 0, size);
+		divide(values, max(values));
+		for (int i = values.length; --i >= 0;) {
+			values[i] = exp(4.0*values[i]);
+		}
+		normalize(values);
+		return values;
+	}
+
+	@Benchmark
+	public double[] fused() {
+		System.arraycopy(fitness, 0, values, 0, size);
+		return BoltzmannSelector.boltzmann(values, 4.0);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + BoltzmannSelectorPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
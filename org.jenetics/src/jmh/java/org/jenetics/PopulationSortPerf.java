@@ -0,0 +1,98 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PopulationSortPerf {
+
+	@Param({"100", "1000", "10000"})
+	public int size;
+
+	private final Random random = new Random(123);
+	private Population<DoubleGene, Double> population;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		population = new Population<>(size);
+		for (int i = 0; i < size; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(
+					DoubleGene.of(random.nextDouble()*10, 0, 10))),
+				0,
+				gt -> gt.getGene().getAllele()
+			));
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void shuffle() {
+		Collections.shuffle(population, random);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> comparatorSort() {
+		population.sortWith(Optimize.MAXIMUM.<Double>descending());
+		return population;
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> populationSort() {
+		population.populationSort(Optimize.MAXIMUM);
+		return population;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + PopulationSortPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -25,6 +25,8 @@ import static org.jenetics.internal.math.arithmetic.normalize;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
+import org.jenetics.internal.math.AliasTable;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -59,6 +61,11 @@ public class ProbabilitySelectorIndexOfPerf {
 	private final double[] array1000 = random(new double[1000]);
 	private final double[] array10000 = random(new double[10000]);
 
+	// Not summed probabilities, for comparing the sampling strategies.
+	private final double[] prob1000 = probabilities(new double[1000]);
+	private final double[] prob10000 = probabilities(new double[10000]);
+	private final double[] prob100000 = probabilities(new double[100000]);
+	private final Random random = new Random();
 
 
 	private static double[] random(final double[] array) {
@@ -69,6 +76,15 @@ public class ProbabilitySelectorIndexOfPerf {
 		return incremental(normalize(array));
 	}
 
+	// The alias table requires a valid, non-negative distribution.
+	private static double[] probabilities(final double[] array) {
+		final Random random = new Random();
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = random.nextDouble();
+		}
+		return normalize(array);
+	}
+
 	@Setup(Level.Iteration)
 	public void shuffle() {
 		random(array10);
@@ -80,6 +96,9 @@ public class ProbabilitySelectorIndexOfPerf {
 		random(array250);
 		random(array320);
 		random(array1000);
+		probabilities(prob1000);
+		probabilities(prob10000);
+		probabilities(prob100000);
 	}
 
 	// indexOf
@@ -186,6 +205,69 @@ public class ProbabilitySelectorIndexOfPerf {
 //		return ProbabilitySelector.indexOfSerial(array10000, 0.5);
 //	}
 
+	// Sampling of 'length' indexes, including the creation of the summed
+	// probability array or the alias table.
+
+	private int cumulativeSampling(final double[] prob, final int count) {
+		final double[] incr = incremental(prob.clone());
+		int sum = 0;
+		for (int i = 0; i < count; ++i) {
+			sum += ProbabilitySelector.indexOf(incr, random.nextDouble());
+		}
+		return sum;
+	}
+
+	private int aliasSampling(final double[] prob, final int count) {
+		final AliasTable table = AliasTable.of(prob);
+		int sum = 0;
+		for (int i = 0; i < count; ++i) {
+			sum += table.sample(random);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int cumulativeSampling1000() {
+		return cumulativeSampling(prob1000, prob1000.length);
+	}
+
+	@Benchmark
+	public int aliasSampling1000() {
+		return aliasSampling(prob1000, prob1000.length);
+	}
+
+	@Benchmark
+	public int cumulativeSampling10000() {
+		return cumulativeSampling(prob10000, prob10000.length);
+	}
+
+	@Benchmark
+	public int aliasSampling10000() {
+		return aliasSampling(prob10000, prob10000.length);
+	}
+
+	@Benchmark
+	public int cumulativeSampling100000() {
+		return cumulativeSampling(prob100000, prob100000.length);
+	}
+
+	@Benchmark
+	public int aliasSampling100000() {
+		return aliasSampling(prob100000, prob100000.length);
+	}
+
+	// Only a few samples: the summed probability array is cheaper.
+
+	@Benchmark
+	public int cumulativeSampling10000x100() {
+		return cumulativeSampling(prob10000, 100);
+	}
+
+	@Benchmark
+	public int aliasSampling10000x100() {
+		return aliasSampling(prob10000, 100);
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + ProbabilitySelectorIndexOfPerf.class.getSimpleName() + ".*")
@@ -0,0 +1,116 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.util.stream.Collectors.maxBy;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ * @since 3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TournamentSelectorPerf {
+
+	@Param({"1000", "100000", "500000"})
+	public int size;
+
+	private final TournamentSelector<DoubleGene, Double> serial =
+		new TournamentSelector<>(3);
+
+	private final TournamentSelector<DoubleGene, Double> concurrent =
+		new TournamentSelector<>(3, ForkJoinPool.commonPool());
+
+	private Population<DoubleGene, Double> population;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		final Random random = new Random(123);
+		population = new Population<>(size);
+		for (int i = 0; i < size; ++i) {
+			final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+				Genotype.of(DoubleChromosome.of(
+					DoubleGene.of(random.nextDouble()*10, 0, 10))),
+				0,
+				gt -> gt.getGene().getAllele()
+			);
+			pt.evaluate();
+			population.add(pt);
+		}
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> streamSelect() {
+		final Random random = RandomRegistry.getRandom();
+		final int N = population.size();
+		return new Population<DoubleGene, Double>(size).fill(
+			() -> IntStream.range(0, 3)
+				.mapToObj(i -> population.get(random.nextInt(N)))
+				.collect(maxBy(Optimize.MAXIMUM.ascending())).get(),
+			size
+		);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> indexSelect() {
+		return serial.select(population, size, Optimize.MAXIMUM);
+	}
+
+	@Benchmark
+	public Population<DoubleGene, Double> concurrentIndexSelect() {
+		return concurrent.select(population, size, Optimize.MAXIMUM);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + TournamentSelectorPerf.class.getSimpleName() + ".*")
+			.warmupIterations(5)
+			.measurementIterations(10)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -51,6 +51,9 @@ public class IndexSorterPerf {
 	private double[] array160 = new Random().doubles(160).toArray();
 	private double[] array250 = new Random().doubles(250).toArray();
 	private double[] array320 = new Random().doubles(320).toArray();
+	private double[] array10k = new Random().doubles(10_000).toArray();
+	private double[] array100k = new Random().doubles(100_000).toArray();
+	private double[] array1m = new Random().doubles(1_000_000).toArray();
 
 
 	@Setup(Level.Iteration)
@@ -61,6 +64,9 @@ public class IndexSorterPerf {
 		array.shuffle(array160);
 		array.shuffle(array250);
 		array.shuffle(array320);
+		array.shuffle(array10k);
+		array.shuffle(array100k);
+		array.shuffle(array1m);
 	}
 
 	//@Benchmark
@@ -123,6 +129,66 @@ public class IndexSorterPerf {
 		return IndexSorter.HEAP_SORTER.sort(array320, IndexSorter.indexes(320))[0];
 	}
 
+	@Benchmark
+	public int heapSort10K() {
+		return IndexSorter.HEAP_SORTER.sort(array10k, IndexSorter.indexes(10_000))[0];
+	}
+
+	@Benchmark
+	public int quickSort10K() {
+		return IndexSorter.QUICK_SORTER.sort(array10k, IndexSorter.indexes(10_000))[0];
+	}
+
+	@Benchmark
+	public int radixSort10K() {
+		return IndexSorter.RADIX_SORTER.sort(array10k, IndexSorter.indexes(10_000))[0];
+	}
+
+	@Benchmark
+	public int parallelSort10K() {
+		return IndexSorter.PARALLEL_SORTER.sort(array10k, IndexSorter.indexes(10_000))[0];
+	}
+
+	@Benchmark
+	public int heapSort100K() {
+		return IndexSorter.HEAP_SORTER.sort(array100k, IndexSorter.indexes(100_000))[0];
+	}
+
+	@Benchmark
+	public int quickSort100K() {
+		return IndexSorter.QUICK_SORTER.sort(array100k, IndexSorter.indexes(100_000))[0];
+	}
+
+	@Benchmark
+	public int radixSort100K() {
+		return IndexSorter.RADIX_SORTER.sort(array100k, IndexSorter.indexes(100_000))[0];
+	}
+
+	@Benchmark
+	public int parallelSort100K() {
+		return IndexSorter.PARALLEL_SORTER.sort(array100k, IndexSorter.indexes(100_000))[0];
+	}
+
+	@Benchmark
+	public int heapSort1M() {
+		return IndexSorter.HEAP_SORTER.sort(array1m, IndexSorter.indexes(1_000_000))[0];
+	}
+
+	@Benchmark
+	public int quickSort1M() {
+		return IndexSorter.QUICK_SORTER.sort(array1m, IndexSorter.indexes(1_000_000))[0];
+	}
+
+	@Benchmark
+	public int radixSort1M() {
+		return IndexSorter.RADIX_SORTER.sort(array1m, IndexSorter.indexes(1_000_000))[0];
+	}
+
+	@Benchmark
+	public int parallelSort1M() {
+		return IndexSorter.PARALLEL_SORTER.sort(array1m, IndexSorter.indexes(1_000_000))[0];
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + IndexSorterPerf.class.getSimpleName() + ".*")
@@ -19,6 +19,8 @@
  */
 package org.jenetics;
 
+import static java.util.Objects.requireNonNull;
+
 import org.jenetics.util.ISeq;
 
 /**
@@ -110,4 +112,25 @@ public interface Alterer<
 				new CompositeAlterer<G, C>(ISeq.of(alterers));
 	}
 
+	/**
+	 * Return the single alterers the given {@code alterer} is composed of.
+	 * If the given {@code alterer} is not a composed alterer, a sequence with
+	 * the given {@code alterer} as single element is returned.
+	 *
+	 * @since 3.0
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @param alterer the alterer to decompose
+	 * @return the single alterers the given {@code alterer} is composed of
+	 * @throws NullPointerException if the given {@code alterer} is
+	 *         {@code null}.
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Alterer<G, C>> flatten(final Alterer<G, C> alterer) {
+		return alterer instanceof CompositeAlterer<?, ?> ?
+			((CompositeAlterer<G, C>)alterer).getAlterers() :
+			ISeq.of(requireNonNull(alterer));
+	}
+
 }
@@ -115,6 +115,29 @@ public class BitChromosome extends Number
 		_p = (double)bit.count(_genes)/(double)_length;
 	}
 
+	/**
+	 * Create a new bit chromosome from the given bit range, with the given
+	 * one probability, which is used for creating new instances.
+	 *
+	 * @param bits the bit values of the new chromosome gene.
+	 * @param start the initial (bit) index of the range to be copied, inclusive
+	 * @param end the final (bit) index of the range to be copied, exclusive.
+	 * @param p the one probability of the new chromosome
+	 * @return a new bit chromosome
+	 */
+	static BitChromosome of(
+		final byte[] bits,
+		final int start,
+		final int end,
+		final double p
+	) {
+		return new BitChromosome(
+			bit.copy(bits, start, end),
+			min(bits.length << 3, end) - start,
+			p
+		);
+	}
+
 	/**
 	 * Create a new {@code BitChromosome} from the given {@code byte} array.
 	 * This is a shortcut for {@code new BitChromosome(bits, 0, bits.length*8)}.
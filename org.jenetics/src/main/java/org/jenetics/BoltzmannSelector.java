@@ -21,9 +21,6 @@ package org.jenetics;
 
 import static java.lang.Math.exp;
 import static java.lang.String.format;
-import static org.jenetics.internal.math.arithmetic.divide;
-import static org.jenetics.internal.math.arithmetic.normalize;
-import static org.jenetics.internal.math.statistics.max;
 import static org.jenetics.internal.util.Equality.eq;
 
 import org.jenetics.internal.util.Equality;
@@ -52,6 +49,11 @@ import org.jenetics.internal.util.Hash;
  * with high fitness values. Negative values of <i>b</i> increases the selection
  * probability of phenotypes with low fitness values. If <i>b</i> is zero the
  * selection probability of all phenotypes is set to <sup>1</sup>/<sub>N</sub>.
+ * <p>
+ * The fitness values are scaled by the maximal fitness value of the
+ * population, and the exponents are shifted by their maximum before the
+ * exponentiation (<i>log-sum-exp</i>). So the probabilities can be calculated
+ * for arbitrary large values of <i>b</i>, without numerical overflows.
  *
  * @param <G> the gene type.
  * @param <N> the BoltzmannSelector requires a number type.
@@ -70,9 +72,7 @@ public final class BoltzmannSelector<
 	private final double _b;
 
 	/**
-	 * Create a new BoltzmanSelector with the given <i>b</i> value. <b>High
-	 * absolute values of <i>b</i> can create numerical overflows while
-	 * calculating the selection probabilities.</b>
+	 * Create a new BoltzmanSelector with the given <i>b</i> value.
 	 *
 	 * @param b the <i>b</i> value of this BoltzmanSelector
 	 */
@@ -97,21 +97,61 @@ public final class BoltzmannSelector<
 
 		// Copy the fitness values to probabilities arrays.
 		final double[] probabilities = new double[population.size()];
-		for (int i = population.size(); --i >= 0;) {
+		for (int i = 0; i < probabilities.length; ++i) {
 			probabilities[i] = population.get(i).getFitness().doubleValue();
 		}
 
-		// Scale the fitness values to avoid overflows.
-		divide(probabilities, max(probabilities));
+		boltzmann(probabilities, _b);
+		assert (sum2one(probabilities)) : "Probabilities doesn't sum to one.";
+
+		return probabilities;
+	}
 
-		for (int i = probabilities.length; --i >= 0;) {
-			probabilities[i] = exp(_b*probabilities[i]);
+	/**
+	 * Replaces the given fitness {@code values} with their Boltzmann
+	 * probabilities, <code>exp(b*f<sub>i</sub>/max(f))/Z</code>. The
+	 * exponents are shifted by their maximum, which doesn't change the
+	 * probabilities, but prevents overflows for large values of <i>b</i>.
+	 * The calculation is done in place, with three counted loops, and
+	 * allocates no temporary arrays.
+	 *
+	 * @param values the fitness values, which are replaced by the
+	 *        probabilities
+	 * @param b the selection intensity
+	 * @return the given {@code values} array, for command chaining
+	 */
+	static double[] boltzmann(final double[] values, final double b) {
+		if (values.length == 0) {
+			return values;
 		}
 
-		normalize(probabilities);
-		assert (sum2one(probabilities)) : "Probabilities doesn't sum to one.";
+		double min = values[0];
+		double max = values[0];
+		for (int i = 1; i < values.length; ++i) {
+			final double value = values[i];
+			min = value < min ? value : min;
+			max = value > max ? value : max;
+		}
 
-		return probabilities;
+		// Scale the fitness values with their maximum, if possible.
+		final double scale = max != 0.0 ? b/max : b;
+
+		// The maximal exponent, for shifting all exponents to <= 0.
+		final double shift = scale >= 0.0 ? scale*max : scale*min;
+
+		double sum = 0.0;
+		for (int i = 0; i < values.length; ++i) {
+			final double p = exp(scale*values[i] - shift);
+			values[i] = p;
+			sum += p;
+		}
+
+		final double norm = 1.0/sum;
+		for (int i = 0; i < values.length; ++i) {
+			values[i] *= norm;
+		}
+
+		return values;
 	}
 
 	@Override
@@ -90,6 +90,9 @@ public final class Genotype<G extends Gene<?, G>>
 	//Caching isValid value.
 	private volatile Boolean _valid = null;
 
+	//Caching hash code value. The genotype is immutable.
+	private transient int _hash = 0;
+
 	private Genotype(
 		final ISeq<? extends Chromosome<G>> chromosomes,
 		final int ngenes
@@ -245,7 +248,12 @@ public final class Genotype<G extends Gene<?, G>>
 
 	@Override
 	public int hashCode() {
-		return Hash.of(getClass()).and(_chromosomes).value();
+		int hash = _hash;
+		if (hash == 0) {
+			hash = Hash.of(getClass()).and(_chromosomes).value();
+			_hash = hash;
+		}
+		return hash;
 	}
 
 	@Override
@@ -0,0 +1,594 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jenetics.internal.util.bit;
+
+import org.jenetics.util.ISeq;
+import org.jenetics.util.MSeq;
+
+/**
+ * Population store for genotypes of fixed shape, which keeps the genes of
+ * all individuals in one contiguous, primitive array. The generation and
+ * the (raw) fitness values of the individuals are kept in parallel arrays.
+ * {@link Phenotype} objects are created on demand, as views of the stored
+ * values. Supported genotypes consists of {@link DoubleChromosome}s,
+ * {@link IntegerChromosome}s, {@link LongChromosome}s or
+ * {@link BitChromosome}s, where every individual has the same number of
+ * chromosomes, with the same length and the same bounds.
+ *
+ * [code]
+ * final Population&lt;DoubleGene, Double&gt; population = ...;
+ * final PackedPopulation&lt;DoubleGene, Double&gt; packed =
+ *     PackedPopulation.of(population);
+ *
+ * // Access the gene values without creating phenotype objects.
+ * double sum = 0;
+ * for (int i = 0; i &lt; packed.size(); ++i) {
+ *     sum += packed.doubleValue(i, 0);
+ * }
+ * [/code]
+ *
+ * <strong>This class is not synchronized.</strong> If multiple threads access
+ * a {@code PackedPopulation} concurrently, and at least one of the threads
+ * modifies it, it <strong>must</strong> be synchronized externally.
+ *
+ * @see Population
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness value type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class PackedPopulation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Iterable<Phenotype<G, C>>
+{
+
+	private final Genotype<G> _template;
+	private final int[] _offsets;
+	private final int _length;
+
+	private final Function<? super Genotype<G>, ? extends C> _function;
+	private final Function<? super C, ? extends C> _scaler;
+
+	private final Store<G> _genes;
+	private final long[] _generations;
+	private final Object[] _fitness;
+
+	private PackedPopulation(
+		final Genotype<G> template,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler,
+		final int size
+	) {
+		_template = template;
+		_offsets = new int[template.length() + 1];
+		for (int i = 0; i < template.length(); ++i) {
+			_offsets[i + 1] = _offsets[i] + template.getChromosome(i).length();
+		}
+		_length = _offsets[template.length()];
+
+		_function = function;
+		_scaler = scaler;
+
+		_genes = store(template, size*_length);
+		_generations = new long[size];
+		_fitness = new Object[size];
+	}
+
+	/**
+	 * Return the number of individuals of this population.
+	 *
+	 * @return the number of individuals of this population
+	 */
+	public int size() {
+		return _generations.length;
+	}
+
+	/**
+	 * Return the number of genes of every individual of this population.
+	 *
+	 * @return the number of genes of every individual
+	 */
+	public int getNumberOfGenes() {
+		return _length;
+	}
+
+	/**
+	 * Return a newly created phenotype view of the individual with the given
+	 * {@code index}. If the individual has already been evaluated, the
+	 * returned phenotype is evaluated as well.
+	 *
+	 * @param index the individual index
+	 * @return the phenotype of the individual with the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public Phenotype<G, C> get(final int index) {
+		final Genotype<G> genotype = getGenotype(index);
+		final C fitness = getRawFitness(index);
+
+		return fitness != null ?
+			Phenotype.of(genotype, _generations[index], _function, _scaler, fitness) :
+			Phenotype.of(genotype, _generations[index], _function, _scaler);
+	}
+
+	/**
+	 * Replaces the individual with the given {@code index} by the given
+	 * phenotype. Only the gene values, the generation and the raw fitness,
+	 * if the phenotype has already been evaluated, are stored.
+	 *
+	 * @param index the individual index
+	 * @param phenotype the new phenotype at the given index
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 * @throws NullPointerException if the {@code phenotype} is {@code null}
+	 * @throws IllegalArgumentException if the genotype of the given
+	 *         {@code phenotype} has a different shape, or if the phenotype
+	 *         uses a different fitness function or fitness scaler
+	 */
+	public void set(final int index, final Phenotype<G, C> phenotype) {
+		requireNonNull(phenotype, "Phenotype");
+		if (phenotype.getFitnessFunction() != _function ||
+			phenotype.getFitnessScaler() != _scaler)
+		{
+			throw new IllegalArgumentException(
+				"Phenotype has a different fitness function or fitness scaler."
+			);
+		}
+
+		final Genotype<G> genotype = phenotype.getGenotype();
+		checkShape(genotype);
+		rangeCheck(index);
+
+		for (int i = 0; i < genotype.length(); ++i) {
+			final Chromosome<G> chromosome = genotype.getChromosome(i);
+			final int offset = index*_length + _offsets[i];
+			for (int j = 0; j < chromosome.length(); ++j) {
+				_genes.set(offset + j, chromosome.getGene(j));
+			}
+		}
+		_generations[index] = phenotype.getGeneration();
+		_fitness[index] = phenotype.isEvaluated() ?
+			phenotype.getRawFitness() :
+			null;
+	}
+
+	/**
+	 * Return a newly created genotype view of the individual with the given
+	 * {@code index}.
+	 *
+	 * @param index the individual index
+	 * @return the genotype of the individual with the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public Genotype<G> getGenotype(final int index) {
+		rangeCheck(index);
+
+		final MSeq<Chromosome<G>> chromosomes =
+			MSeq.ofLength(_template.length());
+		for (int i = 0; i < chromosomes.length(); ++i) {
+			chromosomes.set(i, _genes.chromosome(
+				index*_length + _offsets[i],
+				_template.getChromosome(i)
+			));
+		}
+
+		return new Genotype<>(chromosomes.toISeq());
+	}
+
+	/**
+	 * Return the generation of the individual with the given {@code index}.
+	 *
+	 * @param index the individual index
+	 * @return the generation of the individual
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	public long getGeneration(final int index) {
+		rangeCheck(index);
+		return _generations[index];
+	}
+
+	/**
+	 * Return the raw fitness of the individual with the given {@code index},
+	 * or {@code null} if the individual has not been evaluated yet.
+	 *
+	 * @param index the individual index
+	 * @return the raw fitness of the individual, or {@code null}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= size())}
+	 */
+	@SuppressWarnings("unchecked")
+	public C getRawFitness(final int index) {
+		rangeCheck(index);
+		return (C)_fitness[index];
+	}
+
+	/**
+	 * Return the gene value, at the given {@code gene} position, of the
+	 * individual with the given {@code index}. The gene position is counted
+	 * over all chromosomes of the genotype. {@link BitGene}s are returned as
+	 * {@code 1.0} or {@code 0.0}.
+	 *
+	 * @param index the individual index
+	 * @param gene the gene position, over all chromosomes
+	 * @return the gene value as {@code double}
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	public double doubleValue(final int index, final int gene) {
+		rangeCheck(index);
+		geneRangeCheck(gene);
+		return _genes.doubleValue(index*_length + gene);
+	}
+
+	/**
+	 * Return the gene value, at the given {@code gene} position, of the
+	 * individual with the given {@code index}. The gene position is counted
+	 * over all chromosomes of the genotype. {@link BitGene}s are returned as
+	 * {@code 1} or {@code 0}.
+	 *
+	 * @param index the individual index
+	 * @param gene the gene position, over all chromosomes
+	 * @return the gene value as {@code long}
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	public long longValue(final int index, final int gene) {
+		rangeCheck(index);
+		geneRangeCheck(gene);
+		return _genes.longValue(index*_length + gene);
+	}
+
+	/**
+	 * Return a new population with the phenotype views of all individuals.
+	 *
+	 * @return a new population of this packed population
+	 */
+	public Population<G, C> toPopulation() {
+		final Population<G, C> population = new Population<>(size());
+		for (int i = 0; i < size(); ++i) {
+			population.add(get(i));
+		}
+		return population;
+	}
+
+	/**
+	 * Return a stream of the phenotype views of all individuals.
+	 *
+	 * @return a stream of the phenotype views
+	 */
+	public Stream<Phenotype<G, C>> stream() {
+		return IntStream.range(0, size()).mapToObj(this::get);
+	}
+
+	@Override
+	public Iterator<Phenotype<G, C>> iterator() {
+		return new Iterator<Phenotype<G, C>>() {
+			private int _index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return _index < size();
+			}
+
+			@Override
+			public Phenotype<G, C> next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return get(_index++);
+			}
+		};
+	}
+
+	private void checkShape(final Genotype<G> genotype) {
+		boolean valid = genotype.length() == _template.length();
+		for (int i = 0; valid && i < genotype.length(); ++i) {
+			final Chromosome<G> a = genotype.getChromosome(i);
+			final Chromosome<G> b = _template.getChromosome(i);
+
+			valid = a.getClass() == b.getClass() &&
+				a.length() == b.length() &&
+				(!(a instanceof BoundedChromosome<?, ?>) ||
+					((BoundedChromosome<?, ?>)a).getMin().equals(
+						((BoundedChromosome<?, ?>)b).getMin()) &&
+					((BoundedChromosome<?, ?>)a).getMax().equals(
+						((BoundedChromosome<?, ?>)b).getMax()));
+		}
+
+		if (!valid) {
+			throw new IllegalArgumentException(format(
+				"Genotype %s has a different shape than %s.",
+				genotype, _template
+			));
+		}
+	}
+
+	private void rangeCheck(final int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(
+				"Index: " + index + ", Size: " + size()
+			);
+		}
+	}
+
+	private void geneRangeCheck(final int gene) {
+		if (gene < 0 || gene >= _length) {
+			throw new IndexOutOfBoundsException(
+				"Gene: " + gene + ", Length: " + _length
+			);
+		}
+	}
+
+	/**
+	 * Create a new packed population from the given {@code population}. All
+	 * phenotypes must have the same fitness function and fitness scaler, and
+	 * genotypes with the same shape.
+	 *
+	 * @param population the population to pack
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new packed population
+	 * @throws NullPointerException if the {@code population} is {@code null}
+	 * @throws IllegalArgumentException if the {@code population} is empty,
+	 *         if the genotypes have different shapes, or if the chromosome
+	 *         types are not supported
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PackedPopulation<G, C> of(final Population<G, C> population) {
+		if (population.isEmpty()) {
+			throw new IllegalArgumentException("Population must not be empty.");
+		}
+
+		final Phenotype<G, C> first = population.get(0);
+		final PackedPopulation<G, C> packed = new PackedPopulation<>(
+			first.getGenotype(),
+			first.getFitnessFunction(),
+			first.getFitnessScaler(),
+			population.size()
+		);
+		for (int i = 0; i < population.size(); ++i) {
+			packed.set(i, population.get(i));
+		}
+
+		return packed;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <G extends Gene<?, G>> Store<G>
+	store(final Genotype<G> template, final int length) {
+		final Class<?> type = template.getChromosome().getClass();
+		for (int i = 1; i < template.length(); ++i) {
+			if (template.getChromosome(i).getClass() != type) {
+				throw new IllegalArgumentException(
+					"All chromosomes must have the same type."
+				);
+			}
+		}
+
+		final Store<?> store;
+		if (type == DoubleChromosome.class) {
+			store = new DoubleStore(length);
+		} else if (type == IntegerChromosome.class) {
+			store = new IntegerStore(length);
+		} else if (type == LongChromosome.class) {
+			store = new LongStore(length);
+		} else if (type == BitChromosome.class) {
+			store = new BitStore(length);
+		} else {
+			throw new IllegalArgumentException(format(
+				"Chromosome type %s is not supported.", type.getName()
+			));
+		}
+
+		return (Store<G>)store;
+	}
+
+
+	/* *************************************************************************
+	 *  Inner classes
+	 * ************************************************************************/
+
+	/**
+	 * Primitive storage of the genes of all individuals.
+	 */
+	private static abstract class Store<G extends Gene<?, G>> {
+
+		abstract void set(final int index, final G gene);
+
+		abstract Chromosome<G> chromosome(
+			final int offset,
+			final Chromosome<G> template
+		);
+
+		abstract double doubleValue(final int index);
+
+		abstract long longValue(final int index);
+
+	}
+
+	private static final class DoubleStore extends Store<DoubleGene> {
+		private final double[] _values;
+
+		DoubleStore(final int length) {
+			_values = new double[length];
+		}
+
+		@Override
+		void set(final int index, final DoubleGene gene) {
+			_values[index] = gene.doubleValue();
+		}
+
+		@Override
+		Chromosome<DoubleGene> chromosome(
+			final int offset,
+			final Chromosome<DoubleGene> template
+		) {
+			final DoubleChromosome ch = (DoubleChromosome)template;
+			final double min = ch.getMin();
+			final double max = ch.getMax();
+
+			final MSeq<DoubleGene> genes = MSeq.ofLength(template.length());
+			for (int i = 0; i < genes.length(); ++i) {
+				genes.set(i, DoubleGene.of(_values[offset + i], min, max));
+			}
+			return template.newInstance(genes.toISeq());
+		}
+
+		@Override
+		double doubleValue(final int index) {
+			return _values[index];
+		}
+
+		@Override
+		long longValue(final int index) {
+			return (long)_values[index];
+		}
+	}
+
+	private static final class IntegerStore extends Store<IntegerGene> {
+		private final int[] _values;
+
+		IntegerStore(final int length) {
+			_values = new int[length];
+		}
+
+		@Override
+		void set(final int index, final IntegerGene gene) {
+			_values[index] = gene.intValue();
+		}
+
+		@Override
+		Chromosome<IntegerGene> chromosome(
+			final int offset,
+			final Chromosome<IntegerGene> template
+		) {
+			final IntegerChromosome ch = (IntegerChromosome)template;
+			final int min = ch.getMin();
+			final int max = ch.getMax();
+
+			final MSeq<IntegerGene> genes = MSeq.ofLength(template.length());
+			for (int i = 0; i < genes.length(); ++i) {
+				genes.set(i, IntegerGene.of(_values[offset + i], min, max));
+			}
+			return template.newInstance(genes.toISeq());
+		}
+
+		@Override
+		double doubleValue(final int index) {
+			return _values[index];
+		}
+
+		@Override
+		long longValue(final int index) {
+			return _values[index];
+		}
+	}
+
+	private static final class LongStore extends Store<LongGene> {
+		private final long[] _values;
+
+		LongStore(final int length) {
+			_values = new long[length];
+		}
+
+		@Override
+		void set(final int index, final LongGene gene) {
+			_values[index] = gene.longValue();
+		}
+
+		@Override
+		Chromosome<LongGene> chromosome(
+			final int offset,
+			final Chromosome<LongGene> template
+		) {
+			final LongChromosome ch = (LongChromosome)template;
+			final long min = ch.getMin();
+			final long max = ch.getMax();
+
+			final MSeq<LongGene> genes = MSeq.ofLength(template.length());
+			for (int i = 0; i < genes.length(); ++i) {
+				genes.set(i, LongGene.of(_values[offset + i], min, max));
+			}
+			return template.newInstance(genes.toISeq());
+		}
+
+		@Override
+		double doubleValue(final int index) {
+			return _values[index];
+		}
+
+		@Override
+		long longValue(final int index) {
+			return _values[index];
+		}
+	}
+
+	private static final class BitStore extends Store<BitGene> {
+		private final byte[] _bits;
+
+		BitStore(final int length) {
+			_bits = bit.newArray(length);
+		}
+
+		@Override
+		void set(final int index, final BitGene gene) {
+			bit.set(_bits, index, gene.getBit());
+		}
+
+		@Override
+		Chromosome<BitGene> chromosome(
+			final int offset,
+			final Chromosome<BitGene> template
+		) {
+			// Keep the one probability of the template for new instances.
+			final BitChromosome ch = (BitChromosome)template;
+			return BitChromosome.of(
+				_bits, offset, offset + ch.length(), ch.getOneProbability()
+			);
+		}
+
+		@Override
+		double doubleValue(final int index) {
+			return bit.get(_bits, index) ? 1.0 : 0.0;
+		}
+
+		@Override
+		long longValue(final int index) {
+			return bit.get(_bits, index) ? 1 : 0;
+		}
+	}
+
+}
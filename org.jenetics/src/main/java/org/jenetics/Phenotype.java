@@ -53,7 +53,7 @@ import org.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0 &mdash; <em>$Date: 2014-11-28 $</em>
+ * @version 3.0 &mdash; <em>$Date: 2014-11-28 $</em>
  */
 @XmlJavaTypeAdapter(Phenotype.Model.Adapter.class)
 public final class Phenotype<
@@ -76,8 +76,10 @@ public final class Phenotype<
 	private final long _generation;
 
 	// Storing the fitness value for lazy evaluation.
+	// The scaled fitness is written after the raw fitness. A non-null value
+	// therefore guarantees the visibility of both values.
 	private C _rawFitness = null;
-	private C _fitness = null;
+	private volatile C _fitness = null;
 
 	/**
 	 * Create a new phenotype from the given arguments.
@@ -120,18 +122,40 @@ public final class Phenotype<
 
 	/**
 	 * Evaluates the (raw) fitness values and caches it so the fitness calculation
-	 * is performed only once.
+	 * is performed only once. This method is thread-safe: if several threads
+	 * evaluate the same phenotype concurrently, the fitness function is called
+	 * only once and the other threads wait for its result.
 	 *
 	 * @return this phenotype, for method chaining.
 	 */
 	public Phenotype<G, C> evaluate() {
-		if (_rawFitness == null) {
-			_rawFitness = _function.apply(_genotype);
-			_fitness = _scaler.apply(_rawFitness);
+		if (_fitness == null) {
+			eval();
 		}
 		return this;
 	}
 
+	private synchronized void eval() {
+		if (_fitness == null) {
+			final C fitness = _function.apply(_genotype);
+			_rawFitness = fitness;
+			_fitness = _scaler.apply(fitness);
+		}
+	}
+
+	/**
+	 * Test whether the (raw) fitness value of this phenotype has already been
+	 * calculated.
+	 *
+	 * @since 3.0
+	 *
+	 * @return {@code true} if the fitness value has already been calculated,
+	 *         {@code false} otherwise
+	 */
+	public boolean isEvaluated() {
+		return _fitness != null;
+	}
+
 	/**
 	 * This method simply calls the {@link #evaluate()} method. The purpose of
 	 * this method is to have a simple way for concurrent fitness calculation
@@ -355,6 +379,46 @@ public final class Phenotype<
 		);
 	}
 
+	/**
+	 * Create a new, already evaluated, phenotype from the given arguments. The
+	 * given {@code rawFitness} value is taken as it is and the fitness
+	 * {@code function} is not called for this phenotype. This is useful if the
+	 * fitness value of the genotype has been calculated elsewhere.
+	 *
+	 * @since 3.0
+	 *
+	 * @param <G> the gene type of the chromosome
+	 * @param <C> the fitness value type
+	 * @param genotype the genotype of this phenotype.
+	 * @param generation the current generation of the generated phenotype.
+	 * @param function the fitness function of this phenotype.
+	 * @param scaler the fitness scaler.
+	 * @param rawFitness the already calculated (raw) fitness value of the
+	 *        given {@code genotype}
+	 * @return a new, evaluated, phenotype object
+	 * @throws NullPointerException if one of the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is
+	 *         {@code < 0}.
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> of(
+		final Genotype<G> genotype,
+		final long generation,
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Function<? super C, ? extends C> scaler,
+		final C rawFitness
+	) {
+		final Phenotype<G, C> pt = new Phenotype<>(
+			genotype,
+			generation,
+			function,
+			scaler
+		);
+		pt._rawFitness = requireNonNull(rawFitness, "Raw fitness");
+		pt._fitness = scaler.apply(rawFitness);
+		return pt;
+	}
+
 	/* *************************************************************************
 	 *  JAXB object serialization
 	 * ************************************************************************/
@@ -398,8 +462,8 @@ public final class Phenotype<
 					Function.identity(),
 					Function.identity()
 				);
-				pt._fitness = (Comparable)m.fitness;
 				pt._rawFitness = (Comparable)m.rawFitness;
+				pt._fitness = (Comparable)m.fitness;
 				return pt;
 			}
 		}
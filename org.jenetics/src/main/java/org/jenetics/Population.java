@@ -47,6 +47,7 @@ import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
+import org.jenetics.internal.util.IndexSorter;
 import org.jenetics.internal.util.jaxb;
 
 import org.jenetics.util.Copyable;
@@ -209,9 +210,76 @@ public class Population<G extends Gene<?, G>, C extends Comparable<? super C>>
 	/**
 	 * Sorting the phenotypes in this population according to its fitness
 	 * value in descending order.
+	 *
+	 * @see #populationSort(Optimize)
 	 */
 	public void populationSort() {
-		sortWith(Optimize.MAXIMUM.descending());
+		populationSort(Optimize.MAXIMUM);
+	}
+
+	/**
+	 * Sorting the phenotypes in this population according to the given
+	 * optimization strategy, the best phenotype first. The sort is stable.
+	 * If all fitness values are {@link Double}, {@link Float},
+	 * {@link Integer}, {@link Short} or {@link Byte} values, the population
+	 * is sorted by its primitive {@code double} fitness values, instead of
+	 * comparing the boxed fitness objects. An already sorted population is
+	 * only checked, in <i>O(n)</i>, and left untouched.
+	 *
+	 * @since 3.0
+	 *
+	 * @param optimize the optimization strategy which defines the sort order
+	 * @throws java.lang.NullPointerException if the {@code optimize} is
+	 *         {@code null}.
+	 */
+	public void populationSort(final Optimize optimize) {
+		requireNonNull(optimize);
+
+		final double[] keys = fitnessValues();
+		if (keys != null) {
+			if (IndexSorter.isSorted(keys, optimize == Optimize.MAXIMUM)) {
+				return;
+			}
+
+			final int[] indexes = IndexSorter
+				.stableSort(keys, optimize == Optimize.MAXIMUM);
+
+			final Object[] phenotypes = _population.toArray();
+			for (int i = 0; i < indexes.length; ++i) {
+				@SuppressWarnings("unchecked")
+				final Phenotype<G, C> pt = (Phenotype<G, C>)phenotypes[indexes[i]];
+				_population.set(i, pt);
+			}
+		} else {
+			sortWith(optimize.descending());
+		}
+	}
+
+	/**
+	 * Return the fitness values of the phenotypes of this population as
+	 * primitive {@code double} array. {@code null} is returned if not all
+	 * fitness values are exactly representable as {@code double} values,
+	 * with the same ordering as the fitness objects.
+	 *
+	 * @return the fitness values as {@code double} array, or {@code null}
+	 */
+	double[] fitnessValues() {
+		final double[] values = new double[_population.size()];
+		for (int i = 0; i < values.length; ++i) {
+			final C fitness = _population.get(i).getFitness();
+			if (fitness instanceof Double ||
+				fitness instanceof Float ||
+				fitness instanceof Integer ||
+				fitness instanceof Short ||
+				fitness instanceof Byte)
+			{
+				values[i] = ((Number)fitness).doubleValue();
+			} else {
+				return null;
+			}
+		}
+
+		return values;
 	}
 
 	/**
@@ -29,6 +29,7 @@ import static org.jenetics.internal.util.IndexSorter.sort;
 import java.util.Random;
 import java.util.function.Function;
 
+import org.jenetics.internal.math.AliasTable;
 import org.jenetics.internal.math.DoubleAdder;
 import org.jenetics.internal.util.array;
 
@@ -45,7 +46,9 @@ import org.jenetics.util.RandomRegistry;
  * runtime complexity of the implemented probability selectors is
  * <i>O(n+</i>log<i>(n))</i> instead of <i>O(n<sup>2</sup>)</i> as for the naive
  * approach: <i>A binary (index) search is performed on the summed probability
- * array.</i>
+ * array.</i> If the number of selected individuals is large, compared to the
+ * population size, an alias table is created instead, which allows to select
+ * every individual in constant time (<i>Walker/Vose alias method</i>).
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
@@ -59,6 +62,11 @@ public abstract class ProbabilitySelector<
 {
 	private static final int SERIAL_INDEX_THRESHOLD = 35;
 
+	// The alias table is used if at least populationSize/ALIAS_COUNT_RATIO
+	// individuals are selected. Creating the table costs more than the
+	// summation of the probabilities, which is only paid off by enough draws.
+	private static final int ALIAS_COUNT_RATIO = 8;
+
 	private static final long MAX_ULP_DISTANCE = pow(10, 10);
 
 	private final Function<double[], double[]> _reverter;
@@ -107,13 +115,17 @@ public abstract class ProbabilitySelector<
 				"Population size and probability length are not equal.";
 			assert (sum2one(prob)) : "Probabilities doesn't sum to one.";
 
-			incremental(prob);
-
 			final Random random = RandomRegistry.getRandom();
-			selection.fill(
-				() -> population.get(indexOf(prob, random.nextDouble())),
-				count
-			);
+			if (isAliasSampling(prob.length, count)) {
+				final AliasTable table = AliasTable.of(prob);
+				selection.fill(() -> population.get(table.sample(random)), count);
+			} else {
+				incremental(prob);
+				selection.fill(
+					() -> population.get(indexOf(prob, random.nextDouble())),
+					count
+				);
+			}
 		}
 
 		return selection;
@@ -191,6 +203,14 @@ public abstract class ProbabilitySelector<
 		return abs(ulpDistance(sum, 1.0)) < MAX_ULP_DISTANCE;
 	}
 
+	/**
+	 * Return {@code true} if the individuals are sampled with an
+	 * {@link AliasTable}, instead of searching the summed probability array.
+	 */
+	static boolean isAliasSampling(final int size, final int count) {
+		return size > 1 && count >= size/ALIAS_COUNT_RATIO;
+	}
+
 	static int indexOf(final double[] incr, final double v) {
 		return incr.length <= SERIAL_INDEX_THRESHOLD ?
 			indexOfSerial(incr, v) :
@@ -19,16 +19,22 @@
  */
 package org.jenetics;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.maxBy;
+import static org.jenetics.internal.util.Equality.eq;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
-import java.util.stream.IntStream;
+import java.util.concurrent.Executor;
 
+import org.jenetics.internal.util.Concurrency;
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
 
+import org.jenetics.util.LCG64ShiftRandom;
 import org.jenetics.util.RandomRegistry;
 
 /**
@@ -40,12 +46,25 @@ import org.jenetics.util.RandomRegistry;
  * in all the tournaments it participates. The selection pressure can be varied
  * by changing the tournament size <i>s</i> . For large values of <i>s</i>, weak
  * individuals have less chance being selected.
+ * <p>
+ * The tournaments are performed on the indexes of the population. If the
+ * fitness values are numbers, they are compared as primitive {@code double}
+ * values. If the selector is created with an {@link Executor}, the selection
+ * count is split into chunks of fixed size, which are selected concurrently.
+ * Every chunk uses its own random engine, seeded by the random engine of the
+ * {@link RandomRegistry}, so the selection doesn't depend on the executor.
+ *
+ * [code]
+ * final Engine&lt;DoubleGene, Double&gt; engine = Engine.builder(ff, gtf)
+ *     .offspringSelector(new TournamentSelector&lt;&gt;(3, ForkJoinPool.commonPool()))
+ *     .build();
+ * [/code]
  *
  * @see <a href="http://en.wikipedia.org/wiki/Tournament_selection">Tournament selection</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0 &mdash; <em>$Date: 2014-10-28 $</em>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -54,8 +73,34 @@ public class TournamentSelector<
 	implements Selector<G, C>
 {
 
+	// The number of tournaments performed by one concurrent task.
+	static final int CHUNK_SIZE = 4096;
+
 	private final int _sampleSize;
 
+	// The executor for the concurrent selection; null if the individuals are
+	// selected serially.
+	private final Executor _executor;
+
+	/**
+	 * Create a tournament selector with the give sample size, which selects
+	 * the individuals concurrently with the given {@code executor}. The
+	 * sample size must be greater than one.
+	 *
+	 * @since 3.0
+	 *
+	 * @param sampleSize the number of individuals involved in one tournament
+	 * @param executor the executor used for the concurrent selection, e. g.
+	 *        the executor of the evolution {@code Engine}
+	 * @throws IllegalArgumentException if the sample size is smaller than two.
+	 * @throws NullPointerException if the given {@code executor} is
+	 *         {@code null}
+	 */
+	public TournamentSelector(final int sampleSize, final Executor executor) {
+		_sampleSize = checkSampleSize(sampleSize);
+		_executor = requireNonNull(executor);
+	}
+
 	/**
 	 * Create a tournament selector with the give sample size. The sample size
 	 * must be greater than one.
@@ -64,12 +109,8 @@ public class TournamentSelector<
 	 * @throws IllegalArgumentException if the sample size is smaller than two.
 	 */
 	public TournamentSelector(final int sampleSize) {
-		if (sampleSize < 2) {
-			throw new IllegalArgumentException(
-				"Sample size must be greater than one, but was " + sampleSize
-			);
-		}
-		_sampleSize = sampleSize;
+		_sampleSize = checkSampleSize(sampleSize);
+		_executor = null;
 	}
 
 	/**
@@ -79,6 +120,15 @@ public class TournamentSelector<
 		this(2);
 	}
 
+	private static int checkSampleSize(final int sampleSize) {
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be greater than one, but was " + sampleSize
+			);
+		}
+		return sampleSize;
+	}
+
 	@Override
 	public Population<G, C> select(
 		final Population<G, C> population,
@@ -94,33 +144,100 @@ public class TournamentSelector<
 			));
 		}
 
+		final Tournaments tournaments = new Tournaments(population, opt);
+		final int[] selected = new int[count];
 		final Random random = RandomRegistry.getRandom();
-		return new Population<G, C>(count).fill(
-			() -> select(population, opt, _sampleSize, random),
-			count
-		);
+
+		if (_executor == null) {
+			tournaments.select(selected, 0, count, random);
+		} else {
+			final List<Runnable> tasks = new ArrayList<>();
+			for (int start = 0; start < count; start += CHUNK_SIZE) {
+				final int from = start;
+				final int to = min(start + CHUNK_SIZE, count);
+				final long seed = random.nextLong();
+				tasks.add(() -> tournaments.select(
+					selected, from, to, new LCG64ShiftRandom(seed)
+				));
+			}
+
+			final Executor executor = tasks.size() > 1 ?
+				_executor :
+				Concurrency.SERIAL_EXECUTOR;
+			try (Concurrency c = Concurrency.with(executor)) {
+				c.execute(tasks);
+			}
+		}
+
+		final Population<G, C> selection = new Population<>(count);
+		for (int index : selected) {
+			selection.add(population.get(index));
+		}
+		return selection;
 	}
 
-	private Phenotype<G, C> select(
-		final Population<G, C> population,
-		final Optimize opt,
-		final int sampleSize,
-		final Random random
-	) {
-		final int N = population.size();
-		return IntStream.range(0, sampleSize)
-			.mapToObj(i -> population.get(random.nextInt(N)))
-			.collect(maxBy(opt.ascending())).get();
+	/**
+	 * Performs the tournaments on the indexes of a population. The numeric
+	 * fitness values are compared as primitive {@code double} keys.
+	 */
+	private final class Tournaments {
+		private final Population<G, C> _population;
+		private final Comparator<C> _comparator;
+		private final double[] _keys;
+		private final boolean _maximize;
+
+		Tournaments(final Population<G, C> population, final Optimize opt) {
+			_population = population;
+			_comparator = opt.ascending();
+			_keys = population.fitnessValues();
+			_maximize = opt == Optimize.MAXIMUM;
+		}
+
+		// Writes the indexes of the tournament winners into selected[from:to].
+		void select(
+			final int[] selected,
+			final int from,
+			final int to,
+			final Random random
+		) {
+			final int size = _population.size();
+			for (int i = from; i < to; ++i) {
+				int best = random.nextInt(size);
+				for (int j = 1; j < _sampleSize; ++j) {
+					final int index = random.nextInt(size);
+					if (isBetter(index, best)) {
+						best = index;
+					}
+				}
+				selected[i] = best;
+			}
+		}
+
+		// Only a strictly better competitor replaces the current winner.
+		private boolean isBetter(final int index, final int best) {
+			if (_keys != null) {
+				final int cmp = Double.compare(_keys[index], _keys[best]);
+				return _maximize ? cmp > 0 : cmp < 0;
+			}
+
+			return _comparator.compare(
+				_population.get(index).getFitness(),
+				_population.get(best).getFitness()
+			) > 0;
+		}
 	}
 
 	@Override
 	public int hashCode() {
-		return Hash.of(getClass()).and(_sampleSize).value();
+		return Hash.of(getClass()).and(_sampleSize).and(_executor).value();
 	}
 
 	@Override
 	public boolean equals(final Object obj) {
-		return Equality.of(this, obj).test(s -> _sampleSize == s._sampleSize);
+		return Equality.of(this, obj).test(s ->
+			_sampleSize == s._sampleSize &&
+			eq(_executor, s._executor)
+		);
 	}
 
 	@Override
@@ -24,6 +24,7 @@ import static java.util.Objects.requireNonNull;
 
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
+import org.jenetics.internal.util.IndexSorter;
 
 /**
  * In truncation selection individuals are sorted according to their fitness.
@@ -37,7 +38,7 @@ import org.jenetics.internal.util.Hash;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 2.0 &mdash; <em>$Date: 2014-12-08 $</em>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -53,11 +54,14 @@ public final class TruncationSelector<
 	}
 
 	/**
-	 * This method sorts the population in descending order while calculating
-	 * the selection probabilities. (The method
-	 * {@link Population#sortWith(java.util.Comparator)} )} is called by this
-	 * method.) If the selection size is greater the the population size, the
-	 * whole population is duplicated until the desired sample size is reached.
+	 * Selects the {@code count} best individuals, the best individual first.
+	 * If the fitness values are numbers and {@code count} is smaller than the
+	 * population size, only the best {@code count} individuals are sorted, in
+	 * <i>O(n + k</i>log<i>k)</i>, and the given population is not modified.
+	 * Otherwise the population is sorted in descending order with the
+	 * {@link Population#populationSort(Optimize)} method. If the selection
+	 * size is greater the the population size, the whole population is
+	 * duplicated until the desired sample size is reached.
 	 *
 	 * @throws NullPointerException if the {@code population} is {@code null}.
 	 */
@@ -76,8 +80,20 @@ public final class TruncationSelector<
 			));
 		}
 
-		population.sortWith(opt.<C>descending());
 		final Population<G, C> selection = new Population<>(count);
+		if (count < population.size()) {
+			final double[] keys = population.fitnessValues();
+			if (keys != null) {
+				final int[] top = IndexSorter
+					.stableTop(keys, count, opt == Optimize.MAXIMUM);
+				for (int index : top) {
+					selection.add(population.get(index));
+				}
+				return selection;
+			}
+		}
+
+		population.populationSort(opt);
 		int size = count;
 		do {
 			final int length = Math.min(population.size(), size);
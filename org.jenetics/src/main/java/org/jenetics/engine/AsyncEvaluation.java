@@ -0,0 +1,188 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Evaluates the individuals of a population with an asynchronous fitness
+ * function, without blocking a thread per evaluation. At most
+ * {@code maxInFlight} evaluations are started at the same time. A new
+ * evaluation is started when a running one completes. The evaluated
+ * individuals are replaced in place.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class AsyncEvaluation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Function<
+		? super Genotype<G>,
+		? extends CompletionStage<? extends C>
+	> _function;
+
+	private final Population<G, C> _population;
+	private final int[] _indexes;
+	private final int _length;
+
+	private final CompletableFuture<Population<G, C>> _result =
+		new CompletableFuture<>();
+
+	// The number of evaluations which are allowed to be started.
+	private final AtomicInteger _permits;
+
+	// The number of evaluations which are not completed yet.
+	private final AtomicInteger _remaining;
+
+	// Work-in-progress counter, which serializes the 'drain' loop.
+	private final AtomicInteger _wip = new AtomicInteger();
+
+	// Only accessed within the 'drain' loop.
+	private int _next = 0;
+
+	/**
+	 * Create a new asynchronous evaluation.
+	 *
+	 * @param function the asynchronous fitness function
+	 * @param population the population which contains the individuals to
+	 *        evaluate
+	 * @param indexes the indexes of the individuals to evaluate
+	 * @param length the number of valid entries of the {@code indexes} array
+	 * @param maxInFlight the maximal number of concurrently running
+	 *        evaluations
+	 */
+	AsyncEvaluation(
+		final Function<
+			? super Genotype<G>,
+			? extends CompletionStage<? extends C>
+		> function,
+		final Population<G, C> population,
+		final int[] indexes,
+		final int length,
+		final int maxInFlight
+	) {
+		_function = requireNonNull(function);
+		_population = requireNonNull(population);
+		_indexes = requireNonNull(indexes);
+		_length = length;
+		_permits = new AtomicInteger(min(require.positive(maxInFlight), length));
+		_remaining = new AtomicInteger(length);
+	}
+
+	/**
+	 * Starts the evaluation.
+	 *
+	 * @return the evaluated population, which is completed after the last
+	 *         evaluation has been finished
+	 */
+	CompletableFuture<Population<G, C>> start() {
+		if (_length == 0) {
+			_result.complete(_population);
+		} else {
+			drain();
+		}
+
+		return _result;
+	}
+
+	// Starts new evaluations as long there are permits left. Evaluations which
+	// complete synchronously re-enter this method; the 'wip' counter turns
+	// this into a loop instead of a recursion.
+	private void drain() {
+		if (_wip.getAndIncrement() != 0) return;
+
+		do {
+			while (!_result.isDone() && _next < _length && _permits.get() > 0) {
+				_permits.decrementAndGet();
+				evaluate(_indexes[_next++]);
+			}
+		} while (_wip.decrementAndGet() != 0);
+	}
+
+	private void evaluate(final int index) {
+		final Phenotype<G, C> pt = _population.get(index);
+
+		final CompletionStage<? extends C> fitness;
+		try {
+			fitness = requireNonNull(
+				_function.apply(pt.getGenotype()),
+				"Fitness function returned null."
+			);
+		} catch (RuntimeException e) {
+			_result.completeExceptionally(e);
+			return;
+		}
+
+		fitness.whenComplete((value, error) -> {
+			if (error != null) {
+				_result.completeExceptionally(error);
+			} else {
+				complete(index, pt, value);
+			}
+		});
+	}
+
+	private void complete(
+		final int index,
+		final Phenotype<G, C> pt,
+		final C fitness
+	) {
+		try {
+			_population.set(index, Phenotype.of(
+				pt.getGenotype(),
+				pt.getGeneration(),
+				pt.getFitnessFunction(),
+				pt.getFitnessScaler(),
+				fitness
+			));
+		} catch (RuntimeException e) {
+			_result.completeExceptionally(e);
+			return;
+		}
+
+		if (_remaining.decrementAndGet() == 0) {
+			_result.complete(_population);
+		} else {
+			_permits.incrementAndGet();
+			drain();
+		}
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * Snapshot of a running evolution: the population, the generation and,
+ * optionally, the state of the random engine. Checkpoints are written
+ * periodically by the {@link Checkpointer}, and an evolution is resumed with
+ * the {@link Engine#stream(Checkpoint)} method.
+ * <p>
+ * The checkpoint is written in a compact binary format. Only the genotype,
+ * the generation and the raw fitness value of a phenotype is stored; the
+ * fitness function and the fitness scaler are taken from the resuming
+ * engine. So the genes and the fitness values must be {@link Serializable}.
+ *
+ * [code]
+ * final Checkpoint&lt;DoubleGene, Double&gt; checkpoint =
+ *     Checkpoint.read(Paths.get("evolution.checkpoint"));
+ *
+ * checkpoint.getRandom().ifPresent(RandomRegistry::setRandom);
+ * final Phenotype&lt;DoubleGene, Double&gt; best = engine.stream(checkpoint)
+ *     .limit(100)
+ *     .collect(toBestPhenotype());
+ * [/code]
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class Checkpoint<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	// Identifies the checkpoint format and its version.
+	private static final int MAGIC = 0x4A434B31;
+
+	private final Population<G, C> _population;
+	private final long _generation;
+	private final byte[] _random;
+
+	private Checkpoint(
+		final Population<G, C> population,
+		final long generation,
+		final byte[] random
+	) {
+		_population = requireNonNull(population);
+		_generation = generation;
+		_random = random;
+	}
+
+	/**
+	 * Return the population of the checkpoint. The phenotypes of the
+	 * population must not be evaluated again; they can only be used for
+	 * resuming an evolution with the {@link Engine#stream(Checkpoint)} method.
+	 *
+	 * @return the population of the checkpoint
+	 */
+	public Population<G, C> getPopulation() {
+		return _population;
+	}
+
+	/**
+	 * Return the generation of the checkpoint.
+	 *
+	 * @return the generation of the checkpoint
+	 */
+	public long getGeneration() {
+		return _generation;
+	}
+
+	/**
+	 * Return a copy of the random engine, at the time the checkpoint has been
+	 * taken. The random engine is only stored if it is serializable and not
+	 * a {@link ThreadLocalRandom}.
+	 *
+	 * @return a copy of the stored random engine, if available
+	 */
+	public Optional<Random> getRandom() {
+		return _random != null ?
+			Optional.of(deserialize(_random)) :
+			Optional.empty();
+	}
+
+	/**
+	 * Writes the checkpoint to the given {@code path}. The checkpoint is
+	 * written into a temporary file first, which then replaces the given
+	 * {@code path}. So the file at the given {@code path} always contains a
+	 * complete checkpoint.
+	 *
+	 * @param path the checkpoint file
+	 * @throws IOException if the checkpoint can't be written
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	public void write(final Path path) throws IOException {
+		final Path parent = path.toAbsolutePath().getParent();
+		final Path temp = Files.createTempFile(
+			parent, path.getFileName().toString(), ".tmp"
+		);
+
+		try {
+			try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(temp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeLong(_generation);
+				out.writeObject(_random);
+				out.writeInt(_population.size());
+				for (Phenotype<G, C> pt : _population) {
+					out.writeObject(pt.getGenotype());
+					out.writeLong(pt.getGeneration());
+					out.writeObject(pt.getRawFitness());
+				}
+			}
+
+			Files.move(
+				temp, path,
+				StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE
+			);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Reads a checkpoint from the given {@code path}.
+	 *
+	 * @param path the checkpoint file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the read checkpoint
+	 * @throws IOException if the checkpoint can't be read or the file is not
+	 *         a valid checkpoint
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpoint<G, C> read(final Path path) throws IOException {
+		final Function<Genotype<G>, C> function = gt -> {
+			throw new IllegalStateException(
+				"Phenotype of a checkpoint can't be evaluated."
+			);
+		};
+
+		try (ObjectInputStream in = new ObjectInputStream(
+				new BufferedInputStream(Files.newInputStream(path))))
+		{
+			final int magic = in.readInt();
+			if (magic != MAGIC) {
+				throw new IOException(format(
+					"'%s' is not a valid checkpoint file.", path
+				));
+			}
+
+			final long generation = in.readLong();
+			final byte[] random = (byte[])in.readObject();
+			final int size = in.readInt();
+
+			final Population<G, C> population = new Population<>(size);
+			for (int i = 0; i < size; ++i) {
+				final Genotype<G> genotype = (Genotype<G>)in.readObject();
+				final long gen = in.readLong();
+				final C fitness = (C)in.readObject();
+				population.add(Phenotype.of(
+					genotype, gen, function, a -> a, fitness
+				));
+			}
+
+			return new Checkpoint<>(population, generation, random);
+		} catch (ClassNotFoundException|ClassCastException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Create a new checkpoint from the given evolution result. The given
+	 * random engine is stored, if it is serializable and not a
+	 * {@link ThreadLocalRandom}.
+	 *
+	 * @param result the evolution result
+	 * @param random the current random engine; may be {@code null}
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint
+	 * @throws NullPointerException if the given {@code result} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Checkpoint<G, C> of(final EvolutionResult<G, C> result, final Random random) {
+		return new Checkpoint<>(
+			result.getPopulation().copy(),
+			result.getGeneration(),
+			random != null && !(random instanceof ThreadLocalRandom) ?
+				serialize(random) :
+				null
+		);
+	}
+
+	private static byte[] serialize(final Random random) {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(random);
+		} catch (IOException e) {
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Random deserialize(final byte[] bytes) {
+		try (ObjectInputStream in =
+				new ObjectInputStream(new ByteArrayInputStream(bytes)))
+		{
+			return (Random)in.readObject();
+		} catch (IOException|ClassNotFoundException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Writes a {@link Checkpoint} of the evolution every {@code interval}
+ * generations or every {@code period} of time, whatever comes first. The
+ * checkpoint is taken in the evolution thread, which is cheap, and written
+ * asynchronously by the given executor. If the writing of a checkpoint
+ * lasts longer than the creation of the next one, the intermediate
+ * checkpoints are skipped; only the latest checkpoint is written.
+ *
+ * [code]
+ * final Checkpointer&lt;DoubleGene, Double&gt; checkpointer = Checkpointer
+ *     .&lt;DoubleGene, Double&gt;builder(Paths.get("evolution.checkpoint"))
+ *     .interval(50)
+ *     .period(Duration.ofMinutes(5))
+ *     .build();
+ *
+ * final Phenotype&lt;DoubleGene, Double&gt; best = engine.stream()
+ *     .limit(10_000)
+ *     .peek(checkpointer)
+ *     .collect(toBestPhenotype());
+ * checkpointer.flush();
+ * [/code]
+ *
+ * The evolution is resumed from the latest checkpoint with the
+ * {@link Engine#stream(Checkpoint)} method.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class Checkpointer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Consumer<EvolutionResult<G, C>>
+{
+
+	private final Path _path;
+	private final int _interval;
+	private final Duration _period;
+	private final Executor _executor;
+
+	private final Object _lock = new Object();
+
+	// Guarded by _lock.
+	private int _generations = 0;
+	private long _start = Long.MIN_VALUE;
+	private Checkpoint<G, C> _pending = null;
+	private boolean _writing = false;
+	private CompletableFuture<Void> _writer = CompletableFuture.completedFuture(null);
+	private IOException _failure = null;
+	private long _written = 0;
+
+	private Checkpointer(
+		final Path path,
+		final int interval,
+		final Duration period,
+		final Executor executor
+	) {
+		_path = requireNonNull(path);
+		_interval = require.nonNegative(interval);
+		_period = period;
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Takes a checkpoint of the given evolution result, if one is due, and
+	 * writes it asynchronously.
+	 *
+	 * @param result the evolution result
+	 * @throws NullPointerException if the given {@code result} is
+	 *         {@code null}
+	 */
+	@Override
+	public void accept(final EvolutionResult<G, C> result) {
+		requireNonNull(result);
+
+		final long now = System.nanoTime();
+		synchronized (_lock) {
+			if (_start == Long.MIN_VALUE) {
+				_start = now;
+			}
+
+			++_generations;
+			if (isDue(now)) {
+				_pending = Checkpoint.of(result, RandomRegistry.getRandom());
+				_generations = 0;
+				_start = now;
+
+				if (!_writing) {
+					_writing = true;
+					_writer = CompletableFuture.runAsync(this::drain, _executor);
+				}
+			}
+		}
+	}
+
+	private boolean isDue(final long now) {
+		return (_interval > 0 && _generations >= _interval) ||
+			(_period != null && now - _start >= _period.toNanos());
+	}
+
+	private void drain() {
+		for (Checkpoint<G, C> cp = next(); cp != null; cp = next()) {
+			try {
+				cp.write(_path);
+				synchronized (_lock) {
+					++_written;
+				}
+			} catch (IOException e) {
+				synchronized (_lock) {
+					_failure = e;
+				}
+			}
+		}
+	}
+
+	private Checkpoint<G, C> next() {
+		synchronized (_lock) {
+			final Checkpoint<G, C> checkpoint = _pending;
+			_pending = null;
+			_writing = checkpoint != null;
+			return checkpoint;
+		}
+	}
+
+	/**
+	 * Waits until all taken checkpoints have been written.
+	 *
+	 * @throws IOException if the writing of a checkpoint failed since the
+	 *         last call of this method
+	 */
+	public void flush() throws IOException {
+		final CompletableFuture<Void> writer;
+		synchronized (_lock) {
+			writer = _writer;
+		}
+		writer.join();
+
+		synchronized (_lock) {
+			final IOException failure = _failure;
+			_failure = null;
+			if (failure != null) {
+				throw new IOException(format(
+					"Writing checkpoint '%s' failed.", _path
+				), failure);
+			}
+		}
+	}
+
+	/**
+	 * Return the path of the checkpoint file.
+	 *
+	 * @return the path of the checkpoint file
+	 */
+	public Path getPath() {
+		return _path;
+	}
+
+	/**
+	 * Return the number of successfully written checkpoints.
+	 *
+	 * @return the number of successfully written checkpoints
+	 */
+	public long getCheckpointCount() {
+		synchronized (_lock) {
+			return _written;
+		}
+	}
+
+	/**
+	 * Create a new checkpointer builder.
+	 *
+	 * @param path the checkpoint file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpointer builder
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Path path) {
+		return new Builder<>(path);
+	}
+
+
+	/* *************************************************************************
+	 * Inner classes
+	 **************************************************************************/
+
+	/**
+	 * Builder class for building checkpointer objects.
+	 *
+	 * @see Checkpointer
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.0
+	 * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Path _path;
+
+		// This are the properties which default values.
+		private int _interval = 10;
+		private Duration _period = null;
+		private Executor _executor = ForkJoinPool.commonPool();
+
+		private Builder(final Path path) {
+			_path = requireNonNull(path);
+		}
+
+		/**
+		 * The number of generations between two checkpoints; {@code 0} if
+		 * checkpoints are only taken periodically. <i>Default value is set
+		 * to 10.</i>
+		 *
+		 * @param interval the number of generations between two checkpoints
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code interval} is
+		 *         negative
+		 */
+		public Builder<G, C> interval(final int interval) {
+			_interval = require.nonNegative(interval);
+			return this;
+		}
+
+		/**
+		 * The maximal time between two checkpoints. <i>Default value is not
+		 * set, which means that checkpoints are only taken every
+		 * {@code interval} generations.</i>
+		 *
+		 * @param period the maximal time between two checkpoints
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code period} is
+		 *         {@code null}
+		 * @throws IllegalArgumentException if the {@code period} is not
+		 *         positive
+		 */
+		public Builder<G, C> period(final Duration period) {
+			if (period.isNegative() || period.isZero()) {
+				throw new IllegalArgumentException(format(
+					"Period must be positive: %s", period
+				));
+			}
+			_period = period;
+			return this;
+		}
+
+		/**
+		 * The executor used for writing the checkpoints. <i>Default value is
+		 * set to {@link ForkJoinPool#commonPool()}.</i>
+		 *
+		 * @param executor the executor used for writing the checkpoints
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Builds an new {@code Checkpointer} instance from the set
+		 * properties.
+		 *
+		 * @return an new {@code Checkpointer} instance from the set
+		 *         properties
+		 * @throws IllegalArgumentException if neither an {@code interval}
+		 *         nor a {@code period} is set
+		 */
+		public Checkpointer<G, C> build() {
+			if (_interval == 0 && _period == null) {
+				throw new IllegalArgumentException(
+					"Either a checkpoint interval or period must be set."
+				);
+			}
+			return new Checkpointer<>(_path, _interval, _period, _executor);
+		}
+
+	}
+
+}
@@ -19,6 +19,8 @@
  */
 package org.jenetics.engine;
 
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.Math.round;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
@@ -26,14 +28,35 @@ import static org.jenetics.Population.toPopulation;
 import static org.jenetics.internal.util.require.probability;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import org.jenetics.internal.util.Concurrency;
 import org.jenetics.internal.util.NanoClock;
@@ -50,7 +73,11 @@ import org.jenetics.Population;
 import org.jenetics.Selector;
 import org.jenetics.SinglePointCrossover;
 import org.jenetics.TournamentSelector;
+import org.jenetics.stat.LongMomentStatistics;
 import org.jenetics.util.Factory;
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.engine.MetricsListener.Stage;
+import org.jenetics.util.RandomRegistry;
 
 /**
  * Genetic algorithm <em>engine</em> which is the main class. The following
@@ -97,9 +124,10 @@ import org.jenetics.util.Factory;
  * <p>
  * <em>
  *     <b>This class is thread safe:</b>
- *     No mutable state is maintained by the engine. Therefore it is save to
- *     create multiple evolution streams with one engine, which may be actually
- *     used in different threads.
+ *     The only mutable state maintained by the engine is the optional,
+ *     synchronized, fitness cache. Therefore it is save to create multiple
+ *     evolution streams with one engine, which may be actually used in
+ *     different threads. All streams of the engine share its fitness cache.
  * </em>
  *
  * @see Engine.Builder
@@ -117,6 +145,11 @@ public final class Engine<
 >
 {
 
+	// Populations up to this size are evolved in the calling thread, since
+	// the overhead of the concurrent execution outweighs its gain. Only used,
+	// if no executor has been set explicitly.
+	static final int SERIAL_POPULATION_SIZE = 100;
+
 	// Needed context for population evolving.
 	private final Function<? super Genotype<G>, ? extends C> _fitnessFunction;
 	private final Function<? super C, ? extends C> _fitnessScaler;
@@ -129,8 +162,54 @@ public final class Engine<
 	private final int _survivorsCount;
 	private final long _maximalPhenotypeAge;
 
+	// The options of the fitness evaluation, unpacked into the following
+	// fields.
+	private final EvaluationOptions<G, C> _evaluation;
+
+	// Optional fitness cache; null if no cache is configured.
+	private final FitnessCache<G, C> _fitnessCache;
+
+	// Optional batch fitness function; null if not configured.
+	private final Function<
+		? super List<Genotype<G>>,
+		? extends List<? extends C>
+	> _batchFunction;
+	private final int _batchSize;
+
+	// Optional asynchronous fitness function; null if not configured.
+	private final Function<
+		? super Genotype<G>,
+		? extends CompletionStage<? extends C>
+	> _asyncFunction;
+	private final int _maxInFlight;
+
+	// The maximal number of generations an evaluation is allowed to be
+	// pending; zero if the evolution is not pipelined.
+	private final int _staleness;
+
+	// Populations up to this size are evolved in the calling thread; zero if
+	// the engine executor is always used.
+	private final int _serialPopulationSize;
+
+	// Optional evaluation timeout and deadline; null if not configured. The
+	// timed-out individuals gets the timeout fitness.
+	private final Duration _evaluationTimeout;
+	private final Duration _evaluationDeadline;
+	private final C _timeoutFitness;
+
+	// Optional repair function for invalid genotypes; null if invalid
+	// individuals are replaced by newly created ones.
+	private final Function<? super Genotype<G>, ? extends Genotype<G>> _repairer;
+
+	// Optional metrics listener; null if no metrics are reported.
+	private final MetricsListener _listener;
+
 	// Execution context for concurrent execution of evolving steps.
 	private final TimedExecutor _executor;
+
+	// Executor of the fitness evaluations; null if the fitness is evaluated
+	// by the executor of the evolving steps.
+	private final Executor _evaluationExecutor;
 	private final Clock _clock;
 
 
@@ -147,11 +226,26 @@ public final class Engine<
 	 * @param offspringCount the number of the offspring individuals
 	 * @param survivorsCount the number of the survivor individuals
 	 * @param maximalPhenotypeAge the maximal age of an individual
+	 * @param evaluation the options of the fitness evaluation: the batch or
+	 *        asynchronous fitness function, the evaluation timeout and
+	 *        deadline, the evaluation executor and the fitness cache
+	 * @param staleness the maximal number of generations an evaluation is
+	 *        allowed to be pending; zero if the evolution is not pipelined
+	 * @param serialPopulationSize populations up to this size are evolved in
+	 *        the calling thread; zero if the {@code executor} is always used
+	 * @param repairer the function which repairs invalid genotypes; may be
+	 *        {@code null}
+	 * @param listener the listener which receives the performance metrics;
+	 *        may be {@code null}
 	 * @param executor the executor used for executing the single evolve steps
 	 * @param clock the clock used for calculating the timing results
-	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws NullPointerException if one of the arguments, except the
+	 *         {@code repairer} and the {@code listener}, is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
-	 *         than one.
+	 *         than one, if a timeout or deadline is given without a timeout
+	 *         fitness, if a timeout or deadline is given together with a
+	 *         batch or asynchronous fitness function, or if a deadline is
+	 *         given together with a positive {@code staleness}.
 	 */
 	Engine(
 		final Function<? super Genotype<G>, ? extends C> fitnessFunction,
@@ -164,6 +258,11 @@ public final class Engine<
 		final int offspringCount,
 		final int survivorsCount,
 		final long maximalPhenotypeAge,
+		final EvaluationOptions<G, C> evaluation,
+		final int staleness,
+		final int serialPopulationSize,
+		final Function<? super Genotype<G>, ? extends Genotype<G>> repairer,
+		final MetricsListener listener,
 		final Executor executor,
 		final Clock clock
 	) {
@@ -178,15 +277,50 @@ public final class Engine<
 		_offspringCount = require.positive(offspringCount);
 		_survivorsCount = require.positive(survivorsCount);
 		_maximalPhenotypeAge = require.positive(maximalPhenotypeAge);
+		_evaluation = requireNonNull(evaluation);
+		_fitnessCache = evaluation.newFitnessCache();
+		_batchFunction = evaluation.batchFunction;
+		_batchSize = evaluation.batchSize;
+		_asyncFunction = evaluation.asyncFunction;
+		_maxInFlight = evaluation.maxInFlight;
+		_staleness = require.nonNegative(staleness);
+		_serialPopulationSize = require.nonNegative(serialPopulationSize);
+		_evaluationTimeout = evaluation.timeout;
+		_evaluationDeadline = evaluation.deadline;
+		_timeoutFitness = evaluation.timeoutFitness;
+		if ((_evaluationTimeout != null || _evaluationDeadline != null) &&
+			_timeoutFitness == null)
+		{
+			throw new IllegalArgumentException(
+				"Timeout fitness must be given for an evaluation timeout."
+			);
+		}
+		if ((_evaluationTimeout != null || _evaluationDeadline != null) &&
+			(_batchFunction != null || _asyncFunction != null))
+		{
+			throw new IllegalArgumentException(
+				"Evaluation timeout can't be used with a batch or " +
+				"asynchronous fitness function."
+			);
+		}
+		if (_evaluationDeadline != null && _staleness > 0) {
+			throw new IllegalArgumentException(
+				"Evaluation deadline can't be used in pipelined evolution mode."
+			);
+		}
+		_repairer = repairer;
+		_listener = listener;
 
 		_executor = new TimedExecutor(requireNonNull(executor));
+		_evaluationExecutor = evaluation.executor;
 		_clock = requireNonNull(clock);
 	}
 
 	/**
 	 * Perform one evolution step with the given {@code population} and
 	 * {@code generation}. New phenotypes are created with the fitness function
-	 * and fitness scaler defined by this <em>engine</em>.
+	 * and fitness scaler defined by this <em>engine</em>. This method waits
+	 * for all fitness evaluations, also in pipelined evolution mode.
      * <p>
      * <em>This method is thread-safe.</em>
 	 *
@@ -201,51 +335,205 @@ public final class Engine<
 		final Population<G, C> population,
 		final long generation
 	) {
-		return evolve(new EvolutionStart<>(population, generation));
+		// The not evaluated individuals are evaluated up front, and not by
+		// the concurrently running selectors.
+		evaluate(population, generation);
+
+		final EvolutionResult<G, C> result =
+			evolve(new EvolutionStart<>(population, generation));
+
+		return result.pending().isEmpty() ? result : complete(result);
+	}
+
+	// Adds the pending phenotypes to the population of the given result.
+	private EvolutionResult<G, C> complete(final EvolutionResult<G, C> result) {
+		final Population<G, C> population = result.getPopulation().copy();
+		for (PendingPhenotype<G, C> pt : result.pending()) {
+			population.add(finished(pt, result.getGeneration()));
+		}
+		if (_fitnessCache != null) {
+			_fitnessCache.evict();
+		}
+
+		return EvolutionResult.of(
+			result.getOptimize(),
+			population,
+			result.getGeneration(),
+			result.getTotalGenerations(),
+			result.getDurations(),
+			result.getKillCount(),
+			result.getInvalidCount(),
+			result.getAlterCount(),
+			result.getCacheHitCount(),
+			result.getCacheMissCount(),
+			result.getRepairCount()
+		);
 	}
 
 	/**
-	 * Performs one generation step.
+	 * Performs one generation step. The evolution steps are executed
+	 * concurrently by the engine executor, except if the engine executor is
+	 * the {@link Concurrency#SERIAL_EXECUTOR}, or if no executor has been set
+	 * and the population is not larger than {@code SERIAL_POPULATION_SIZE}.
+	 * In this case the steps are executed directly in the calling thread, and
+	 * only the fitness evaluation uses the engine executor.
 	 *
 	 * @param start the evolution start state
 	 * @return the resulting evolution state
 	 */
 	EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		return evolve(
+			start,
+			_executor.get() == Concurrency.SERIAL_EXECUTOR ||
+			start.population.size() + start.pending.size() <= _serialPopulationSize
+		);
+	}
+
+	/**
+	 * Performs one generation step.
+	 *
+	 * @param start the evolution start state
+	 * @param serial if {@code true}, the evolution steps are executed in the
+	 *        calling thread
+	 * @return the resulting evolution state
+	 */
+	EvolutionResult<G, C> evolve(
+		final EvolutionStart<G, C> start,
+		final boolean serial
+	) {
+		final EvolutionEvents.Evolve event = EvolutionEvents.evolve();
 		final Timer timer = Timer.of().start();
 
+		// Take the finished, and the too stale, pending evaluations. The still
+		// pending individuals are reducing the number of selected survivors.
+		final List<PendingPhenotype<G, C>> pending = new ArrayList<>();
+		final Population<G, C> ready = ready(start, pending);
+		final int survivorsCount = max(_survivorsCount - pending.size(), 0);
+		final int offspringCount =
+			_offspringCount - max(pending.size() - _survivorsCount, 0);
+
+		final Steps<G, C> steps = serial ?
+			serial(ready, offspringCount, survivorsCount, start.generation, pending) :
+			concurrent(ready, offspringCount, survivorsCount, start.generation, pending);
+
+		final Map<Stage, Duration> waits = new EnumMap<>(Stage.class);
+		for (Stage stage : Stage.values()) {
+			if (steps.waits[stage.ordinal()] != null) {
+				waits.put(stage, steps.waits[stage.ordinal()]);
+			}
+		}
+		waits.put(Stage.EVALUATION, steps.evaluation.result.queueWait);
+
+		final EvolutionDurations durations = EvolutionDurations.of(
+			steps.offspring.duration,
+			steps.survivors.duration,
+			steps.alteredOffspring.duration,
+			steps.filteredOffspring.duration,
+			steps.filteredSurvivors.duration,
+			steps.evaluation.duration,
+			timer.stop().getTime(),
+			waits
+		);
+
+		final int killCount =
+			steps.filteredOffspring.result.killCount +
+			steps.filteredSurvivors.result.killCount;
+
+		final int invalidCount =
+			steps.filteredOffspring.result.invalidCount +
+			steps.filteredSurvivors.result.invalidCount;
+
+		final int repairCount =
+			steps.filteredOffspring.result.repairCount +
+			steps.filteredSurvivors.result.repairCount;
+
+		final EvolutionResult<G, C> evolution = EvolutionResult.of(
+			_optimize,
+			steps.evaluation.result.population,
+			start.generation,
+			start.generation,
+			durations,
+			killCount,
+			invalidCount,
+			steps.alteredOffspring.result.alterCount,
+			steps.evaluation.result.cacheHitCount,
+			steps.evaluation.result.cacheMissCount,
+			repairCount
+		);
+
+		EvolutionEvents.commitEvolve(
+			event,
+			start.generation,
+			evolution.getPopulation().size(),
+			evolution.getAlterCount(),
+			killCount,
+			invalidCount,
+			repairCount
+		);
+
+		if (_listener != null) {
+			report(
+				start.generation,
+				ready,
+				evolution,
+				offspringCount,
+				steps.offspring.duration,
+				survivorsCount,
+				steps.survivors.duration
+			);
+		}
+
+		return pending.isEmpty() ? evolution : evolution.withPending(pending);
+	}
+
+	// Executes the evolution steps concurrently by the engine executor.
+	private Steps<G, C> concurrent(
+		final Population<G, C> ready,
+		final int offspringCount,
+		final int survivorsCount,
+		final long generation,
+		final List<PendingPhenotype<G, C>> pending
+	) {
+		final Duration[] waits = new Duration[Stage.values().length];
+
 		// Select the offspring population.
 		final CompletableFuture<TimedResult<Population<G, C>>> offspring =
 			_executor.async(() ->
-				selectOffspring(start.population),
-				_clock
+				selectOffspring(ready, offspringCount, generation),
+				_clock,
+				queued(Stage.OFFSPRING_SELECTION, generation, waits)
 			);
 
 		// Select the survivor population.
 		final CompletableFuture<TimedResult<Population<G, C>>> survivors =
 			_executor.async(() ->
-				selectSurvivors(start.population),
-				_clock
+				selectSurvivors(ready, survivorsCount, generation),
+				_clock,
+				queued(Stage.SURVIVORS_SELECTION, generation, waits)
 			);
 
 		// Altering the offspring population.
 		final CompletableFuture<TimedResult<AlterResult<G, C>>> alteredOffspring =
 			_executor.thenApply(offspring, p ->
-				alter(p.result, start.generation),
-				_clock
+				alter(p.result, generation),
+				_clock,
+				queued(Stage.OFFSPRING_ALTER, generation, waits)
 			);
 
 		// Filter and replace invalid and to old survivor individuals.
 		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredSurvivors =
 			_executor.thenApply(survivors, pop ->
-				filter(pop.result, start.generation),
-				_clock
+				filter(pop.result, generation),
+				_clock,
+				queued(Stage.SURVIVORS_FILTER, generation, waits)
 			);
 
 		// Filter and replace invalid and to old offspring individuals.
 		final CompletableFuture<TimedResult<FilterResult<G, C>>> filteredOffspring =
 			_executor.thenApply(alteredOffspring, pop ->
-				filter(pop.result.population, start.generation),
-				_clock
+				filter(pop.result.population, generation),
+				_clock,
+				queued(Stage.OFFSPRING_FILTER, generation, waits)
 			);
 
 		// Combining survivors and offspring to the new population.
@@ -259,62 +547,311 @@ public final class Engine<
 			);
 
 		// Evaluate the fitness-function and wait for result.
-		final TimedResult<Population<G, C>> result = population
-			.thenApply(TimedResult.of(this::evaluate, _clock))
-			.join();
+		final TimedResult<EvaluationResult<G, C>> result =
+			(_asyncFunction != null ?
+				population.thenCompose(pop ->
+					evaluateAsync(pop, generation)) :
+				population.thenApply(TimedResult.of(pop ->
+					evaluation(pop, generation, pending),
+					_clock
+				))
+			).join();
+
+		return new Steps<>(
+			offspring.join(),
+			survivors.join(),
+			alteredOffspring.join(),
+			filteredOffspring.join(),
+			filteredSurvivors.join(),
+			result,
+			waits
+		);
+	}
 
-		final EvolutionDurations durations = EvolutionDurations.of(
-			offspring.join().duration,
-			survivors.join().duration,
-			alteredOffspring.join().duration,
-			filteredOffspring.join().duration,
-			filteredSurvivors.join().duration,
-			result.duration,
-			timer.stop().getTime()
+	// Executes the evolution steps directly in the calling thread. Only the
+	// fitness evaluation is performed by the engine executor.
+	private Steps<G, C> serial(
+		final Population<G, C> ready,
+		final int offspringCount,
+		final int survivorsCount,
+		final long generation,
+		final List<PendingPhenotype<G, C>> pending
+	) {
+		final TimedResult<Population<G, C>> offspring =
+			step(Stage.OFFSPRING_SELECTION, generation, () ->
+				selectOffspring(ready, offspringCount, generation));
+
+		final TimedResult<Population<G, C>> survivors =
+			step(Stage.SURVIVORS_SELECTION, generation, () ->
+				selectSurvivors(ready, survivorsCount, generation));
+
+		final TimedResult<AlterResult<G, C>> alteredOffspring =
+			step(Stage.OFFSPRING_ALTER, generation, () ->
+				alter(offspring.result, generation));
+
+		final TimedResult<FilterResult<G, C>> filteredSurvivors =
+			step(Stage.SURVIVORS_FILTER, generation, () ->
+				filter(survivors.result, generation));
+
+		final TimedResult<FilterResult<G, C>> filteredOffspring =
+			step(Stage.OFFSPRING_FILTER, generation, () ->
+				filter(alteredOffspring.result.population, generation));
+
+		final Population<G, C> population = filteredSurvivors.result.population;
+		population.addAll(filteredOffspring.result.population);
+
+		final TimedResult<EvaluationResult<G, C>> result;
+		if (_asyncFunction != null) {
+			result = evaluateAsync(population, generation).join();
+		} else {
+			final Timer timer = Timer.of(_clock).start();
+			final EvaluationResult<G, C> evaluated =
+				evaluation(population, generation, pending);
+			result = new TimedResult<>(timer.stop().getTime(), evaluated);
+		}
+
+		return new Steps<>(
+			offspring,
+			survivors,
+			alteredOffspring,
+			filteredOffspring,
+			filteredSurvivors,
+			result,
+			new Duration[Stage.values().length]
 		);
+	}
 
-		final int killCount =
-			filteredOffspring.join().result.killCount +
-			filteredSurvivors.join().result.killCount;
+	// Executes the given evolution step directly. The step has been waiting
+	// for no time in an executor queue.
+	private <T> TimedResult<T> step(
+		final Stage stage,
+		final long generation,
+		final Supplier<T> step
+	) {
+		if (_listener != null) {
+			_listener.queued(generation, stage, Duration.ZERO);
+		}
 
-		final int invalidCount =
-			filteredOffspring.join().result.invalidCount +
-			filteredSurvivors.join().result.invalidCount;
+		final Timer timer = Timer.of(_clock).start();
+		final T result = step.get();
+		return new TimedResult<>(timer.stop().getTime(), result);
+	}
 
-		return EvolutionResult.of(
-			_optimize,
-			result.result,
-			start.generation,
-			durations,
-			killCount,
-			invalidCount,
-			alteredOffspring.join().result.alterCount
+	// Evaluates the combined population of a generation.
+	private EvaluationResult<G, C> evaluation(
+		final Population<G, C> population,
+		final long generation,
+		final List<PendingPhenotype<G, C>> pending
+	) {
+		final EvolutionEvents.Evaluate event = EvolutionEvents.evaluate();
+		final EvaluationResult<G, C> evaluated = isPipelined() ?
+			evaluate(population, generation, pending) :
+			evaluate(population, generation);
+
+		EvolutionEvents.commitEvaluate(
+			event,
+			generation,
+			population.size(),
+			evaluated.evaluationCount,
+			evaluated.cacheHitCount
+		);
+
+		return evaluated;
+	}
+
+	// Returns the consumer of the queue waiting time of the given stage, which
+	// stores the waiting time into the given 'waits' array.
+	private Consumer<Duration> queued(
+		final Stage stage,
+		final long generation,
+		final Duration[] waits
+	) {
+		return wait -> {
+			waits[stage.ordinal()] = wait;
+			if (_listener != null) {
+				_listener.queued(generation, stage, wait);
+			}
+		};
+	}
+
+	// Reports the metrics of the finished evolution step.
+	private void report(
+		final long generation,
+		final Population<G, C> ready,
+		final EvolutionResult<G, C> result,
+		final int offspringCount,
+		final Duration offspringDuration,
+		final int survivorsCount,
+		final Duration survivorsDuration
+	) {
+		_listener.queued(
+			generation,
+			Stage.EVALUATION,
+			result.getDurations().getQueueWait(Stage.EVALUATION)
+		);
+		_listener.selected(
+			generation,
+			Stage.OFFSPRING_SELECTION,
+			_offspringSelector,
+			offspringCount,
+			offspringDuration
+		);
+		_listener.selected(
+			generation,
+			Stage.SURVIVORS_SELECTION,
+			_survivorsSelector,
+			survivorsCount,
+			survivorsDuration
 		);
+
+		if (_fitnessCache != null) {
+			_listener.cached(
+				generation,
+				result.getCacheHitCount(),
+				result.getCacheMissCount()
+			);
+		}
+
+		final Set<Phenotype<G, C>> existing =
+			Collections.newSetFromMap(new IdentityHashMap<>());
+		existing.addAll(ready);
+		_listener.allocated(
+			generation,
+			(int)result.getPopulation().stream()
+				.filter(pt -> !existing.contains(pt))
+				.count()
+		);
+
+		_listener.evolved(generation, result.getDurations());
+	}
+
+	// Returns the executor used for evaluating the fitness function.
+	private Executor evaluationExecutor() {
+		return _evaluationExecutor != null ?
+			_evaluationExecutor :
+			_executor.get();
+	}
+
+	private boolean isPipelined() {
+		return _staleness > 0 && _batchFunction == null && _asyncFunction == null;
+	}
+
+	// Returns the population of the evolution start, plus the pending
+	// individuals which are finished or have reached the staleness bound. The
+	// other pending individuals are added to the given 'pending' list.
+	private Population<G, C> ready(
+		final EvolutionStart<G, C> start,
+		final List<PendingPhenotype<G, C>> pending
+	) {
+		if (start.pending.isEmpty()) {
+			return start.population;
+		}
+
+		// Wait for all evaluations if there is no individual to select from.
+		final int staleness = start.population.isEmpty() ? 0 : _staleness;
+
+		final Population<G, C> population = start.population.copy();
+		for (PendingPhenotype<G, C> pt : start.pending) {
+			if (pt.isReady(start.generation, staleness)) {
+				population.add(finished(pt, start.generation));
+			} else {
+				pending.add(pt);
+			}
+		}
+
+		return population;
+	}
+
+	// Waits for the given pending individual and puts its fitness value into
+	// the fitness cache. The evaluation is cancelled if it isn't finished
+	// within the evaluation timeout.
+	private Phenotype<G, C> finished(
+		final PendingPhenotype<G, C> pending,
+		final long generation
+	) {
+		final Phenotype<G, C> pt;
+		if (_evaluationTimeout != null) {
+			try {
+				pt = pending.evaluation
+					.get(_evaluationTimeout.toNanos(), TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				pending.cancel();
+				if (_listener != null) {
+					_listener.timedOut(generation, 1);
+				}
+				return evaluated(pending.phenotype, _timeoutFitness);
+			} catch (ExecutionException e) {
+				throw rethrow(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException(e.getMessage());
+			}
+		} else {
+			pt = pending.evaluation.join();
+		}
+
+		if (_fitnessCache != null) {
+			_fitnessCache.put(pt.getGenotype(), pt.getRawFitness());
+		}
+
+		return pt;
 	}
 
 	// Selects the survivors population. A new population object is returned.
-	private Population<G, C> selectSurvivors(final Population<G, C> population) {
-		return _survivorsSelector.select(population, _survivorsCount, _optimize);
+	private Population<G, C> selectSurvivors(
+		final Population<G, C> population,
+		final int count,
+		final long generation
+	) {
+		return select(_survivorsSelector, population, count, generation);
 	}
 
 	// Selects the offspring population. A new population object is returned.
-	private Population<G, C> selectOffspring(final Population<G, C> population) {
-		return _offspringSelector.select(population, _offspringCount, _optimize);
+	private Population<G, C> selectOffspring(
+		final Population<G, C> population,
+		final int count,
+		final long generation
+	) {
+		return select(_offspringSelector, population, count, generation);
+	}
+
+	private Population<G, C> select(
+		final Selector<G, C> selector,
+		final Population<G, C> population,
+		final int count,
+		final long generation
+	) {
+		final EvolutionEvents.Select event = EvolutionEvents.select();
+		final Population<G, C> selected =
+			selector.select(population, count, _optimize);
+		EvolutionEvents.commitSelect(
+			event, generation, selector, population.size(), count
+		);
+
+		return selected;
 	}
 
-	// Filters out invalid and to old individuals. Filtering is done in place.
+	// Filters out invalid and to old individuals. Invalid individuals are
+	// repaired, if possible. Filtering is done in place.
 	private FilterResult<G, C> filter(
 		final Population<G, C> population,
 		final long generation
 	) {
 		int killCount = 0;
 		int invalidCount = 0;
+		int repairCount = 0;
 
 		for (int i = 0, n = population.size(); i < n; ++i) {
 			final Phenotype<G, C> individual = population.get(i);
 
 			if (!individual.isValid()) {
-				population.set(i, newPhenotype(generation));
+				final Phenotype<G, C> repaired = repair(individual);
+				if (repaired != null) {
+					population.set(i, repaired);
+					++repairCount;
+				} else {
+					population.set(i, newPhenotype(generation));
+				}
 				++invalidCount;
 			} else if (individual.getAge(generation) > _maximalPhenotypeAge) {
 				population.set(i, newPhenotype(generation));
@@ -322,7 +859,75 @@ public final class Engine<
 			}
 		}
 
-		return new FilterResult<>(population, killCount, invalidCount);
+		return new FilterResult<>(
+			population, killCount, invalidCount, repairCount
+		);
+	}
+
+	/**
+	 * Repairs the given invalid phenotype with the repair function of this
+	 * engine. The repaired phenotype keeps the generation of the invalid one.
+	 *
+	 * @param phenotype the invalid phenotype
+	 * @return the repaired phenotype, or {@code null} if no repair function
+	 *         is set or the repaired genotype is still invalid
+	 */
+	Phenotype<G, C> repair(final Phenotype<G, C> phenotype) {
+		if (_repairer == null) {
+			return null;
+		}
+
+		final Genotype<G> genotype = _repairer.apply(phenotype.getGenotype());
+		return genotype != null && genotype.isValid() ?
+			Phenotype.of(
+				genotype,
+				phenotype.getGeneration(),
+				_fitnessFunction,
+				_fitnessScaler
+			) :
+			null;
+	}
+
+	// Fills the given population with newly created individuals, up to the
+	// population size of the engine. The individuals are created concurrently
+	// if there are more of them than the serial population size. Every
+	// individual is created with its own PRNG, seeded by the PRNG of the
+	// RandomRegistry, which makes the created individuals independent of the
+	// executor.
+	private Population<G, C> fill(
+		final Population<G, C> population,
+		final long generation
+	) {
+		final int count = getPopulationSize() - population.size();
+		if (count > 0) {
+			final Random random = RandomRegistry.getRandom();
+
+			// Every task sets its own element; the list isn't resized.
+			final List<Phenotype<G, C>> phenotypes =
+				new ArrayList<>(Collections.nCopies(count, null));
+			final List<Runnable> tasks = new ArrayList<>(count);
+			for (int i = 0; i < count; ++i) {
+				final int index = i;
+				final long seed = random.nextLong();
+				tasks.add(() -> phenotypes.set(index, RandomRegistry.with(
+					new LCG64ShiftRandom(seed),
+					r -> newPhenotype(generation)
+				)));
+			}
+
+			final Executor executor = count > _serialPopulationSize ?
+				_executor.get() :
+				Concurrency.SERIAL_EXECUTOR;
+			try (Concurrency c = Concurrency.with(executor)) {
+				c.execute(tasks);
+			}
+
+			for (Phenotype<G, C> pt : phenotypes) {
+				population.add(pt);
+			}
+		}
+
+		return population;
 	}
 
 	// Create a new phenotype
@@ -340,18 +945,479 @@ public final class Engine<
 		final Population<G,C> population,
 		final long generation
 	) {
-		return new AlterResult<>(
+		if (_listener == null && !EvolutionEvents.AVAILABLE) {
+			return new AlterResult<>(
+				population,
+				_alterer.alter(population, generation)
+			);
+		}
+
+		int alterCount = 0;
+		for (Alterer<G, C> alterer : Alterer.flatten(_alterer)) {
+			final EvolutionEvents.Alter event = EvolutionEvents.alter();
+			final Timer timer = Timer.of(_clock).start();
+			final int count = alterer.alter(population, generation);
+			EvolutionEvents.commitAlter(
+				event, generation, alterer, population.size(), count
+			);
+			if (_listener != null) {
+				_listener.altered(
+					generation, alterer, count, timer.stop().getTime()
+				);
+			}
+			alterCount += count;
+		}
+
+		return new AlterResult<>(population, alterCount);
+	}
+
+	// Evaluates the fitness function of the give population concurrently.
+	private EvaluationResult<G, C> evaluate(
+		final Population<G, C> population,
+		final long generation
+	) {
+		final Pending pending = pending(population, generation);
+		if (_asyncFunction != null) {
+			evaluateAsync(population, pending, generation).join();
+		} else if (pending.length > 0) {
+			if (_batchFunction != null) {
+				evaluateBatches(population, pending, generation);
+			} else if (_evaluationTimeout != null || _evaluationDeadline != null) {
+				pending.timedOut =
+					evaluateCancellable(population, pending, generation);
+			} else {
+				final List<Runnable> evaluations =
+					new ArrayList<>(pending.length);
+				for (int i = 0; i < pending.length; ++i) {
+					evaluations.add(pending.queued(
+						timed(population.get(pending.indexes[i]), generation)
+					));
+				}
+				final Concurrency concurrency =
+					Concurrency.with(evaluationExecutor());
+				try (Concurrency c = concurrency) {
+					c.execute(evaluations);
+				}
+				if (_listener != null) {
+					final LongMomentStatistics chunks =
+						concurrency.getChunkStatistics();
+					if (chunks.getCount() > 0) {
+						_listener.chunked(generation, chunks);
+					}
+				}
+			}
+		}
+
+		return evaluated(population, pending, generation);
+	}
+
+	// Evaluates the individuals with the given indexes as cancellable tasks.
+	// Evaluations which are running longer than the evaluation timeout, or
+	// which are not finished at the evaluation deadline, are cancelled, and
+	// the individuals gets the timeout fitness. The indexes of the timed-out
+	// individuals are returned.
+	private BitSet evaluateCancellable(
+		final Population<G, C> population,
+		final Pending pending,
+		final long generation
+	) {
+		final int[] indexes = pending.indexes;
+		final int length = pending.length;
+		final long start = System.nanoTime();
+		final Executor executor = evaluationExecutor();
+
+		final List<EvaluationTask<G, C>> tasks = new ArrayList<>(length);
+		try {
+			for (int i = 0; i < length; ++i) {
+				final Phenotype<G, C> pt = population.get(indexes[i]);
+				final EvaluationTask<G, C> task = new EvaluationTask<>(
+					pt, pending.queued(timed(pt, generation))
+				);
+				tasks.add(task);
+				executor.execute(task);
+			}
+
+			final BitSet timedOut = new BitSet(population.size());
+			for (int i = 0; i < length; ++i) {
+				final EvaluationTask<G, C> task = tasks.get(i);
+				// A late result of a cancelled evaluation is ignored.
+				if (!await(task, start) && task.cancel(true)) {
+					final Phenotype<G, C> pt = task.phenotype();
+					population.set(indexes[i], evaluated(pt, _timeoutFitness));
+					timedOut.set(indexes[i]);
+				}
+			}
+
+			if (_listener != null && !timedOut.isEmpty()) {
+				_listener.timedOut(generation, timedOut.cardinality());
+			}
+			return timedOut;
+		} finally {
+			// Nothing is left running, if the evaluation failed.
+			for (EvaluationTask<G, C> task : tasks) {
+				task.cancel(true);
+			}
+		}
+	}
+
+	// Waits for the given evaluation task, at most until the evaluation
+	// timeout of the task or the evaluation deadline has been reached.
+	// Returns false if the evaluation has timed out.
+	private boolean await(final EvaluationTask<G, C> task, final long start) {
+		while (true) {
+			final long now = System.nanoTime();
+			long wait = Long.MAX_VALUE;
+			if (_evaluationDeadline != null) {
+				wait = start + _evaluationDeadline.toNanos() - now;
+			}
+			if (_evaluationTimeout != null) {
+				// Not started evaluations are polled for its start.
+				final long started = task.started();
+				wait = min(wait, started != -1 ?
+					started + _evaluationTimeout.toNanos() - now :
+					_evaluationTimeout.toNanos());
+			}
+
+			try {
+				task.get(max(wait, 0), TimeUnit.NANOSECONDS);
+				return true;
+			} catch (TimeoutException e) {
+				if (wait <= 0) {
+					return false;
+				}
+			} catch (ExecutionException e) {
+				throw rethrow(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException(e.getMessage());
+			}
+		}
+	}
+
+	private static RuntimeException rethrow(final Throwable cause) {
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException)cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error)cause;
+		}
+		throw new CompletionException(cause);
+	}
+
+	// Evaluates the given population concurrently, but only waits until all
+	// evaluations have been started. The individuals whose evaluation is not
+	// finished are removed from the population and added to the 'pending' list.
+	private EvaluationResult<G, C> evaluate(
+		final Population<G, C> population,
+		final long generation,
+		final List<PendingPhenotype<G, C>> pending
+	) {
+		final Pending unevaluated = pending(population, generation);
+		final CountDownLatch started = new CountDownLatch(unevaluated.length);
+		final Executor executor = evaluationExecutor();
+
+		final List<CompletableFuture<Phenotype<G, C>>> evaluations =
+			new ArrayList<>(Collections.nCopies(population.size(), null));
+		for (int i = 0; i < unevaluated.length; ++i) {
+			final Phenotype<G, C> pt = population.get(unevaluated.indexes[i]);
+			final Runnable evaluation = timed(pt, generation);
+			final EvaluationTask<G, C> task = new EvaluationTask<>(pt,
+				unevaluated.queued(() -> {
+					started.countDown();
+					evaluation.run();
+				})
+			);
+			evaluations.set(unevaluated.indexes[i], task);
+			executor.execute(task);
+		}
+		for (int i = 0; i < unevaluated.duplicateCount; ++i) {
+			final Phenotype<G, C> pt = population.get(unevaluated.duplicates[i]);
+			evaluations.set(
+				unevaluated.duplicates[i],
+				evaluations.get(unevaluated.originals[i]).thenApply(original ->
+					pt.isEvaluated() ? pt : evaluated(pt, original.getRawFitness())
+				)
+			);
+		}
+		await(started);
+
+		final Population<G, C> evaluated = new Population<>(population.size());
+		for (int i = 0, n = population.size(); i < n; ++i) {
+			final CompletableFuture<Phenotype<G, C>> evaluation =
+				evaluations.get(i);
+
+			if (evaluation != null) {
+				if (evaluation.isDone()) {
+					final Phenotype<G, C> pt = evaluation.join();
+					if (_fitnessCache != null) {
+						_fitnessCache.put(pt.getGenotype(), pt.getRawFitness());
+					}
+					evaluated.add(pt);
+				} else {
+					pending.add(new PendingPhenotype<>(
+						population.get(i), evaluation, generation
+					));
+				}
+			} else {
+				evaluated.add(population.get(i));
+			}
+		}
+		if (_fitnessCache != null) {
+			_fitnessCache.evict();
+		}
+
+		return new EvaluationResult<>(
+			evaluated,
+			unevaluated.length,
+			unevaluated.hits(),
+			_fitnessCache != null ? unevaluated.length : 0,
+			unevaluated.queueWait()
+		);
+	}
+
+	// Waits for the given latch. The executing fork-join pool, if any, is
+	// allowed to compensate the blocked thread.
+	private static void await(final CountDownLatch latch) {
+		try {
+			ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+				@Override
+				public boolean block() throws InterruptedException {
+					latch.await();
+					return true;
+				}
+
+				@Override
+				public boolean isReleasable() {
+					return latch.getCount() == 0;
+				}
+			});
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException(e.getMessage());
+		}
+	}
+
+	// Evaluates the given population with the asynchronous fitness function,
+	// without blocking the executor threads.
+	private CompletableFuture<TimedResult<EvaluationResult<G, C>>>
+	evaluateAsync(final Population<G, C> population, final long generation) {
+		final EvolutionEvents.Evaluate event = EvolutionEvents.evaluate();
+		final Timer timer = Timer.of(_clock).start();
+		final Pending pending = pending(population, generation);
+
+		return evaluateAsync(population, pending, generation).thenApply(pop -> {
+			final EvaluationResult<G, C> result =
+				evaluated(pop, pending, generation);
+			EvolutionEvents.commitEvaluate(
+				event,
+				generation,
+				pop.size(),
+				result.evaluationCount,
+				result.cacheHitCount
+			);
+
+			return new TimedResult<>(timer.stop().getTime(), result);
+		});
+	}
+
+	private CompletableFuture<Population<G, C>> evaluateAsync(
+		final Population<G, C> population,
+		final Pending pending,
+		final long generation
+	) {
+		return new AsyncEvaluation<>(
+			timed(_asyncFunction, generation),
 			population,
-			_alterer.alter(population, generation)
+			pending.indexes,
+			pending.length,
+			_maxInFlight
+		).start();
+	}
+
+	// Returns the evaluation of the given phenotype, which reports the
+	// evaluation time, if a metrics listener is set.
+	private Runnable timed(final Phenotype<G, C> pt, final long generation) {
+		return _listener == null ?
+			pt :
+			() -> {
+				final Timer timer = Timer.of(_clock).start();
+				pt.evaluate();
+				_listener.evaluated(generation, 1, timer.stop().getTime());
+			};
+	}
+
+	// Returns the asynchronous fitness function, which reports the evaluation
+	// time, if a metrics listener is set.
+	private Function<? super Genotype<G>, ? extends CompletionStage<? extends C>>
+	timed(
+		final Function<
+			? super Genotype<G>,
+			? extends CompletionStage<? extends C>
+		> function,
+		final long generation
+	) {
+		if (_listener == null) {
+			return function;
+		}
+
+		return gt -> {
+			final Timer timer = Timer.of(_clock).start();
+			return function.apply(gt).thenApply(fitness -> {
+				_listener.evaluated(generation, 1, timer.stop().getTime());
+				return fitness;
+			});
+		};
+	}
+
+	// Collects the indexes of the not evaluated individuals. The fitness
+	// values found in the fitness cache are taken directly. Individuals with
+	// a genotype equal to the genotype of an already collected individual
+	// are not evaluated again, they take the fitness of the first one.
+	private Pending pending(
+		final Population<G, C> population,
+		final long generation
+	) {
+		final int size = population.size();
+		final int[] indexes = new int[size];
+		final int[] duplicates = new int[size];
+		final int[] originals = new int[size];
+		int length = 0;
+		int duplicateCount = 0;
+		int hits = 0;
+
+		final Map<Genotype<G>, Integer> unique = new HashMap<>();
+		for (int i = 0; i < size; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+
+			if (!pt.isEvaluated()) {
+				final C fitness = _fitnessCache != null ?
+					_fitnessCache.get(pt.getGenotype()) :
+					null;
+
+				if (fitness != null) {
+					population.set(i, evaluated(pt, fitness));
+					++hits;
+				} else {
+					final Integer original = unique.putIfAbsent(pt.getGenotype(), i);
+					if (original != null) {
+						duplicates[duplicateCount] = i;
+						originals[duplicateCount++] = original;
+					} else {
+						indexes[length++] = i;
+					}
+				}
+			}
+		}
+
+		return new Pending(
+			indexes, length, duplicates, originals, duplicateCount, hits
 		);
 	}
 
-	// Evaluates the fitness function of the give population concurrently.
-	private Population<G, C> evaluate(final Population<G, C> population) {
-		try (Concurrency c = Concurrency.with(_executor.get())) {
-			c.execute(population);
+	// Assigns the fitness values to the duplicate individuals and puts the
+	// newly calculated fitness values into the fitness cache.
+	private EvaluationResult<G, C> evaluated(
+		final Population<G, C> population,
+		final Pending pending,
+		final long generation
+	) {
+		for (int i = 0; i < pending.duplicateCount; ++i) {
+			final Phenotype<G, C> pt = population.get(pending.duplicates[i]);
+			final Phenotype<G, C> original = population.get(pending.originals[i]);
+			if (pt != original) {
+				population.set(
+					pending.duplicates[i],
+					evaluated(pt, original.getRawFitness())
+				);
+			}
+		}
+
+		if (_fitnessCache != null) {
+			for (int i = 0; i < pending.length; ++i) {
+				final int index = pending.indexes[i];
+				if (pending.timedOut == null || !pending.timedOut.get(index)) {
+					final Phenotype<G, C> pt = population.get(index);
+					_fitnessCache.put(pt.getGenotype(), pt.getRawFitness());
+				}
+			}
+			_fitnessCache.evict();
+		}
+
+		return new EvaluationResult<>(
+			population,
+			pending.length,
+			pending.hits(),
+			_fitnessCache != null ? pending.length : 0,
+			pending.queueWait()
+		);
+	}
+
+	// Evaluates the individuals with the given indexes with the batch fitness
+	// function. Every batch is executed as a separate task.
+	private void evaluateBatches(
+		final Population<G, C> population,
+		final Pending pending,
+		final long generation
+	) {
+		final int[] indexes = pending.indexes;
+		try (Concurrency c = Concurrency.with(evaluationExecutor())) {
+			for (int start = 0; start < pending.length; start += _batchSize) {
+				final int from = start;
+				final int to = min(start + _batchSize, pending.length);
+				if (_listener == null) {
+					c.execute(pending.queued(() ->
+						evaluateBatch(population, indexes, from, to)));
+				} else {
+					c.execute(pending.queued(() -> {
+						final Timer timer = Timer.of(_clock).start();
+						evaluateBatch(population, indexes, from, to);
+						_listener.evaluated(
+							generation, to - from, timer.stop().getTime()
+						);
+					}));
+				}
+			}
+		}
+	}
+
+	// Evaluates the individuals with the indexes[from:to] with one call of the
+	// batch fitness function. The individuals are replaced in place.
+	private void evaluateBatch(
+		final Population<G, C> population,
+		final int[] indexes,
+		final int from,
+		final int to
+	) {
+		final List<Genotype<G>> genotypes = new ArrayList<>(to - from);
+		for (int i = from; i < to; ++i) {
+			genotypes.add(population.get(indexes[i]).getGenotype());
+		}
+
+		final List<? extends C> fitness = _batchFunction.apply(genotypes);
+		if (fitness == null || fitness.size() != genotypes.size()) {
+			throw new IllegalStateException(format(
+				"Batch fitness function must return %d fitness values, " +
+				"but returned %s.",
+				genotypes.size(), fitness != null ? fitness.size() : null
+			));
+		}
+
+		for (int i = from; i < to; ++i) {
+			final Phenotype<G, C> pt = population.get(indexes[i]);
+			population.set(indexes[i], evaluated(pt, fitness.get(i - from)));
 		}
-		return population;
+	}
+
+	// Return a copy of the given phenotype with the given raw fitness value.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> evaluated(final Phenotype<G, C> pt, final C fitness) {
+		return Phenotype.of(
+			pt.getGenotype(),
+			pt.getGeneration(),
+			pt.getFitnessFunction(),
+			pt.getFitnessScaler(),
+			fitness
+		);
 	}
 
 	/**
@@ -381,13 +1447,13 @@ public final class Engine<
 		);
 	}
 
-	private EvolutionStart<G, C> evolutionStart() {
+	EvolutionStart<G, C> evolutionStart() {
 		final int generation = 1;
 		final int size = _offspringCount + _survivorsCount;
 
-		final Population<G, C> population = new Population<G, C>(size)
-			.fill(() -> newPhenotype(generation), size);
-		evaluate(population);
+		final Population<G, C> population =
+			fill(new Population<>(size), generation);
+		evaluate(population, generation);
 
 		return new EvolutionStart<>(population, generation);
 	}
@@ -396,6 +1462,9 @@ public final class Engine<
 	 * Create a new <b>infinite</b> evolution stream with the given initial
 	 * individuals. If an empty {@code Iterable} is given, the engines genotype
 	 * factory is used for creating the population.
+	 * The given genotypes are consumed lazily, when the evolution starts. At
+	 * most population size genotypes are taken from the {@code Iterable},
+	 * which therefore might be infinite.
 	 *
 	 * @param genotypes the initial individuals used for the evolution stream.
 	 *        Missing individuals are created and individuals not needed are
@@ -419,6 +1488,9 @@ public final class Engine<
 	 * Create a new <b>infinite</b> evolution iterator with the given initial
 	 * individuals. If an empty {@code Iterable} is given, the engines genotype
 	 * factory is used for creating the population.
+	 * The given genotypes are consumed lazily, when the evolution starts. At
+	 * most population size genotypes are taken from the {@code Iterable},
+	 * which therefore might be infinite.
 	 *
 	 * @param genotypes the initial individuals used for the evolution iterator.
 	 *        Missing individuals are created and individuals not needed are
@@ -442,17 +1514,16 @@ public final class Engine<
 		final Iterable<Genotype<G>> genotypes,
 		final long generation
 	) {
-		final Stream<Phenotype<G, C>> stream = Stream.concat(
-			StreamSupport.stream(genotypes.spliterator(), false)
-				.map(gt -> Phenotype.of(
-					gt, generation, _fitnessFunction, _fitnessScaler)),
-			Stream.generate(() -> newPhenotype(generation))
-		);
-
-		final Population<G, C> population = stream
-			.limit(getPopulationSize())
-			.collect(toPopulation());
-		evaluate(population);
+		// The genotypes are consumed lazily; an infinite iterable is allowed.
+		final Population<G, C> population =
+			new Population<>(getPopulationSize());
+		final Iterator<Genotype<G>> it = genotypes.iterator();
+		while (population.size() < getPopulationSize() && it.hasNext()) {
+			population.add(Phenotype.of(
+				it.next(), generation, _fitnessFunction, _fitnessScaler
+			));
+		}
+		evaluate(fill(population, generation), generation);
 
 		return new EvolutionStart<>(population, generation);
 	}
@@ -525,23 +1596,229 @@ public final class Engine<
 		final Population<G, C> population,
 		final long generation
 	) {
-		final Stream<Phenotype<G, C>> stream = Stream.concat(
+		final Population<G, C> pop = fill(
 			population.stream()
+				.limit(getPopulationSize())
 				.map(p -> p.newInstance(
 					p.getGeneration(),
 					_fitnessFunction,
-					_fitnessScaler)),
-			Stream.generate(() -> newPhenotype(generation))
+					_fitnessScaler))
+				.collect(toPopulation()),
+			generation
 		);
+		evaluate(pop, generation);
 
-		final Population<G, C> pop = stream
-			.limit(getPopulationSize())
-			.collect(toPopulation());
-		evaluate(pop);
+		return new EvolutionStart<>(pop, generation);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream, which resumes the
+	 * evolution with the given, already evaluated, population. In contrast to
+	 * the {@link #stream(Population, long)} method, the fitness values stored
+	 * in the phenotypes are reused and the fitness function is only called for
+	 * not yet evaluated individuals. The stored raw fitness values are
+	 * re-scaled with the fitness scaler of this engine. This is only valid if
+	 * the given population has been evaluated with the same fitness function
+	 * as the one of this engine, e.g. if the population has been restored
+	 * from a snapshot of a previous run.
+	 * <p>
+	 * The stored fitness values can be verified by re-evaluating a randomly
+	 * chosen {@code verification} fraction of the evaluated individuals. If
+	 * one of the re-evaluated fitness values differs from the stored one, the
+	 * stored values are not trusted and the whole population is re-evaluated.
+	 *
+	 * @since 3.0
+	 *
+	 * @param population the initial, evaluated, individuals used for the
+	 *        evolution stream. Missing individuals are created and individuals
+	 *        not needed are skipped.
+	 * @param generation the generation the stream starts from; must be greater
+	 *        than zero.
+	 * @param verification the fraction of the stored fitness values which
+	 *        are verified; {@code 0} if the stored fitness values are not
+	 *        verified at all.
+	 * @return a new evolution stream.
+	 * @throws java.lang.NullPointerException if the given {@code population} is
+	 *         {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is smaller
+	 *        then one or the {@code verification} fraction is not within the
+	 *        range [0, 1].
+	 */
+	public EvolutionStream<G, C> stream(
+		final Population<G, C> population,
+		final long generation,
+		final double verification
+	) {
+		requireNonNull(population);
+		require.positive(generation);
+		probability(verification);
+
+		return new EvolutionStreamImpl<>(
+			this::evolve,
+			() -> evolutionStart(population, generation, verification)
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator, which resumes the
+	 * evolution with the given, already evaluated, population. The stored
+	 * fitness values are reused.
+	 *
+	 * @see #stream(Population, long, double)
+	 *
+	 * @since 3.0
+	 *
+	 * @param population the initial, evaluated, individuals used for the
+	 *        evolution iterator. Missing individuals are created and
+	 *        individuals not needed are skipped.
+	 * @param generation the generation the iterator starts from; must be
+	 *        greater than zero.
+	 * @param verification the fraction of the stored fitness values which
+	 *        are verified; {@code 0} if the stored fitness values are not
+	 *        verified at all.
+	 * @return a new <b>infinite</b> evolution iterator
+	 * @throws java.lang.NullPointerException if the given {@code population} is
+	 *         {@code null}.
+	 * @throws IllegalArgumentException if the given {@code generation} is smaller
+	 *        then one or the {@code verification} fraction is not within the
+	 *        range [0, 1].
+	 */
+	public Iterator<EvolutionResult<G, C>> iterator(
+		final Population<G, C> population,
+		final long generation,
+		final double verification
+	) {
+		requireNonNull(population);
+		require.positive(generation);
+		probability(verification);
+
+		return new EvolutionIterator<>(
+			this::evolve,
+			() -> evolutionStart(population, generation, verification)
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream, which resumes the
+	 * evolution from the given {@code checkpoint}. The stream starts with the
+	 * generation following the checkpoint generation and the stored fitness
+	 * values are reused. The stored random engine is <em>not</em> installed;
+	 * this must be done by the caller, e.g. with
+	 * {@code checkpoint.getRandom().ifPresent(RandomRegistry::setRandom)}.
+	 *
+	 * @see Checkpointer
+	 * @see #stream(Population, long, double)
+	 *
+	 * @since 3.0
+	 *
+	 * @param checkpoint the checkpoint the evolution is resumed from
+	 * @return a new evolution stream.
+	 * @throws java.lang.NullPointerException if the given {@code checkpoint}
+	 *         is {@code null}.
+	 */
+	public EvolutionStream<G, C> stream(final Checkpoint<G, C> checkpoint) {
+		return stream(
+			checkpoint.getPopulation(),
+			checkpoint.getGeneration() + 1,
+			0.0
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator, which resumes the
+	 * evolution from the given {@code checkpoint}.
+	 *
+	 * @see #stream(Checkpoint)
+	 *
+	 * @since 3.0
+	 *
+	 * @param checkpoint the checkpoint the evolution is resumed from
+	 * @return a new <b>infinite</b> evolution iterator
+	 * @throws java.lang.NullPointerException if the given {@code checkpoint}
+	 *         is {@code null}.
+	 */
+	public Iterator<EvolutionResult<G, C>>
+	iterator(final Checkpoint<G, C> checkpoint) {
+		return iterator(
+			checkpoint.getPopulation(),
+			checkpoint.getGeneration() + 1,
+			0.0
+		);
+	}
+
+	private EvolutionStart<G, C> evolutionStart(
+		final Population<G, C> population,
+		final long generation,
+		final double verification
+	) {
+		final Population<G, C> pop = fill(
+			population.stream()
+				.limit(getPopulationSize())
+				.map(p -> p.isEvaluated() ?
+					Phenotype.of(
+						p.getGenotype(),
+						p.getGeneration(),
+						_fitnessFunction,
+						_fitnessScaler,
+						p.getRawFitness()) :
+					p.newInstance(
+						p.getGeneration(),
+						_fitnessFunction,
+						_fitnessScaler))
+				.collect(toPopulation()),
+			generation
+		);
+
+		if (!verify(pop, verification)) {
+			pop.replaceAll(p -> p.newInstance(
+				p.getGeneration(),
+				_fitnessFunction,
+				_fitnessScaler
+			));
+		}
+		evaluate(pop, generation);
 
 		return new EvolutionStart<>(pop, generation);
 	}
 
+	// Re-evaluates a random sample of the evaluated individuals and returns
+	// true if the re-evaluated fitness values equal the stored ones.
+	private boolean verify(
+		final Population<G, C> population,
+		final double verification
+	) {
+		final Random random = RandomRegistry.getRandom();
+
+		final List<Phenotype<G, C>> stored = new ArrayList<>();
+		final List<Phenotype<G, C>> verified = new ArrayList<>();
+		for (Phenotype<G, C> pt : population) {
+			if (pt.isEvaluated() && random.nextDouble() < verification) {
+				stored.add(pt);
+				verified.add(pt.newInstance(
+					pt.getGeneration(),
+					_fitnessFunction,
+					_fitnessScaler
+				));
+			}
+		}
+
+		if (!verified.isEmpty()) {
+			try (Concurrency c = Concurrency.with(evaluationExecutor())) {
+				c.execute(verified);
+			}
+		}
+
+		boolean valid = true;
+		for (int i = 0, n = stored.size(); i < n && valid; ++i) {
+			valid = Objects.equals(
+				stored.get(i).getRawFitness(),
+				verified.get(i).getRawFitness()
+			);
+		}
+
+		return valid;
+	}
+
 
 
 	/* *************************************************************************
@@ -662,17 +1939,32 @@ public final class Engine<
 	 * @return a new engine builder
 	 */
 	public Builder<G, C> builder() {
-		return new Builder<>(_genotypeFactory, _fitnessFunction)
-			.alterers(_alterer)
-			.clock(_clock)
-			.executor(_executor.get())
-			.fitnessScaler(_fitnessScaler)
-			.maximalPhenotypeAge(_maximalPhenotypeAge)
-			.offspringFraction((double)_offspringCount/(double)getPopulationSize())
-			.offspringSelector(_offspringSelector)
-			.optimize(_optimize)
-			.populationSize(getPopulationSize())
-			.survivorsSelector(_survivorsSelector);
+		final Builder<G, C> builder =
+			new Builder<>(_genotypeFactory, _fitnessFunction)
+				.alterers(_alterer)
+				.clock(_clock)
+				.executor(_executor.get())
+				.fitnessScaler(_fitnessScaler)
+				.maximalPhenotypeAge(_maximalPhenotypeAge)
+				.offspringFraction((double)_offspringCount/(double)getPopulationSize())
+				.offspringSelector(_offspringSelector)
+				.optimize(_optimize)
+				.populationSize(getPopulationSize())
+				.survivorsSelector(_survivorsSelector);
+
+		builder._evaluation = _evaluation;
+		builder._serialPopulationSize = _serialPopulationSize;
+		if (_staleness > 0) {
+			builder.pipelined(_staleness);
+		}
+		if (_repairer != null) {
+			builder.repairer(_repairer);
+		}
+		if (_listener != null) {
+			builder.metricsListener(_listener);
+		}
+
+		return builder;
 	}
 
 	/**
@@ -727,6 +2019,111 @@ public final class Engine<
 	 * Inner classes
 	 **************************************************************************/
 
+	// The results of the evolution steps of one generation.
+	private static final class Steps<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		final TimedResult<Population<G, C>> offspring;
+		final TimedResult<Population<G, C>> survivors;
+		final TimedResult<AlterResult<G, C>> alteredOffspring;
+		final TimedResult<FilterResult<G, C>> filteredOffspring;
+		final TimedResult<FilterResult<G, C>> filteredSurvivors;
+		final TimedResult<EvaluationResult<G, C>> evaluation;
+
+		// The queue waiting times of the steps, indexed by the stage ordinal;
+		// null for steps which have not been waiting in a queue.
+		final Duration[] waits;
+
+		Steps(
+			final TimedResult<Population<G, C>> offspring,
+			final TimedResult<Population<G, C>> survivors,
+			final TimedResult<AlterResult<G, C>> alteredOffspring,
+			final TimedResult<FilterResult<G, C>> filteredOffspring,
+			final TimedResult<FilterResult<G, C>> filteredSurvivors,
+			final TimedResult<EvaluationResult<G, C>> evaluation,
+			final Duration[] waits
+		) {
+			this.offspring = offspring;
+			this.survivors = survivors;
+			this.alteredOffspring = alteredOffspring;
+			this.filteredOffspring = filteredOffspring;
+			this.filteredSurvivors = filteredSurvivors;
+			this.evaluation = evaluation;
+			this.waits = waits;
+		}
+	}
+
+	/**
+	 * The indexes of the individuals of a population which has to be
+	 * evaluated, plus the number of fitness values taken from the cache.
+	 */
+	private final class Pending {
+		final int[] indexes;
+		final int length;
+
+		// The duplicates[i] individual takes the fitness of the originals[i]
+		// individual.
+		final int[] duplicates;
+		final int[] originals;
+		final int duplicateCount;
+
+		final int cacheHits;
+
+		// The indexes of the individuals whose evaluation has timed out; null
+		// if the evaluation can't time out.
+		BitSet timedOut = null;
+
+		// The time the first evaluation task has been submitted and started.
+		private Instant _submitted = null;
+		private final AtomicReference<Instant> _started =
+			new AtomicReference<>();
+
+		Pending(
+			final int[] indexes,
+			final int length,
+			final int[] duplicates,
+			final int[] originals,
+			final int duplicateCount,
+			final int cacheHits
+		) {
+			this.indexes = indexes;
+			this.length = length;
+			this.duplicates = duplicates;
+			this.originals = originals;
+			this.duplicateCount = duplicateCount;
+			this.cacheHits = cacheHits;
+		}
+
+		// The duplicates count as cache hits, if a fitness cache is used.
+		int hits() {
+			return _fitnessCache != null ? cacheHits + duplicateCount : 0;
+		}
+
+		// Returns the given evaluation task, which records its start time.
+		// Must be called by the submitting thread, before the task is
+		// submitted to the evaluation executor.
+		Runnable queued(final Runnable task) {
+			if (_submitted == null) {
+				_submitted = _clock.instant();
+			}
+			return () -> {
+				if (_started.get() == null) {
+					_started.compareAndSet(null, _clock.instant());
+				}
+				task.run();
+			};
+		}
+
+		// Returns the time until the first evaluation task has been started.
+		Duration queueWait() {
+			final Instant started = _started.get();
+			return started != null ?
+				Duration.between(_submitted, started) :
+				Duration.ZERO;
+		}
+	}
+
 	/**
 	 * Builder class for building GA {@code Engine} instances.
 	 *
@@ -758,6 +2155,14 @@ public final class Engine<
 		private double _offspringFraction = 0.6;
 		private int _populationSize = 50;
 		private long _maximalPhenotypeAge = 70;
+		private EvaluationOptions<G, C> _evaluation = EvaluationOptions.of();
+		private int _staleness = 0;
+		private int _serialPopulationSize = SERIAL_POPULATION_SIZE;
+		private Function<
+			? super Genotype<G>,
+			? extends Genotype<G>
+		> _repairer = null;
+		private MetricsListener _listener = null;
 
 		private Executor _executor = ForkJoinPool.commonPool();
 		private Clock _clock = NanoClock.INSTANCE;
@@ -943,13 +2348,308 @@ public final class Engine<
 		}
 
 		/**
-		 * The executor used by the engine.
+		 * Set a fitness function which evaluates whole batches of genotypes
+		 * with one call. This is useful for fitness functions which are much
+		 * cheaper per genotype if they are evaluated in bulk; e. g. one call of
+		 * an external solver or one data base query per batch. Only the not
+		 * yet evaluated individuals of a generation are passed to the given
+		 * {@code function}, split into batches of at most {@code batchSize}
+		 * genotypes. The batches are evaluated concurrently by the engines
+		 * executor. <i>No batch fitness function is set by default.</i>
+		 * <p>
+		 * The returned list must contain the fitness value of every given
+		 * genotype, in the same order. The single-genotype fitness function
+		 * of the engine is still part of the created phenotypes and must
+		 * return the same values as the batch fitness function. Setting a
+		 * batch fitness function removes a previously set
+		 * {@link #asyncFitnessFunction(Function, int) asynchronous} one.
+		 *
+		 * @param function the fitness function which evaluates a batch of
+		 *        genotypes
+		 * @param batchSize the maximal number of genotypes evaluated by one
+		 *        call of the given {@code function}
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code function}
+		 *         is {@code null}
+		 * @throws java.lang.IllegalArgumentException if {@code batchSize < 1}
+		 */
+		public Builder<G, C> batchFitnessFunction(
+			final Function<
+				? super List<Genotype<G>>,
+				? extends List<? extends C>
+			> function,
+			final int batchSize
+		) {
+			_evaluation = _evaluation.withBatchFunction(function, batchSize);
+			return this;
+		}
+
+		/**
+		 * Set an asynchronous fitness function, which returns the fitness
+		 * value as {@link CompletionStage}. This is useful for fitness
+		 * functions which are waiting for I/O, e. g. for the result of an
+		 * external simulation process. The evaluation step is composed
+		 * non-blocking into the evolution pipeline, and no executor thread is
+		 * blocked while waiting for a fitness value. At most
+		 * {@code maxInFlight} evaluations are started at the same time.
+		 * <i>No asynchronous fitness function is set by default.</i>
+		 * <p>
+		 * The single-genotype fitness function of the engine is still part of
+		 * the created phenotypes and must return the same values as the
+		 * asynchronous fitness function. Setting an asynchronous fitness
+		 * function removes a previously set
+		 * {@link #batchFitnessFunction(Function, int) batch} fitness function.
+		 *
+		 * @param function the asynchronous fitness function
+		 * @param maxInFlight the maximal number of concurrently running
+		 *        evaluations
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code function}
+		 *         is {@code null}
+		 * @throws java.lang.IllegalArgumentException if {@code maxInFlight < 1}
+		 */
+		public Builder<G, C> asyncFitnessFunction(
+			final Function<
+				? super Genotype<G>,
+				? extends CompletionStage<? extends C>
+			> function,
+			final int maxInFlight
+		) {
+			_evaluation = _evaluation.withAsyncFunction(function, maxInFlight);
+			return this;
+		}
+
+		/**
+		 * Enables the fitness cache of the engine. The (raw) fitness values of
+		 * the evaluated genotypes are memoized across generations, and the
+		 * fitness function is only called for genotypes which are not already
+		 * in the cache. The least recently used entries are evicted if the
+		 * cache grows beyond the given {@code size}, and entries which hasn't
+		 * been accessed for more than {@code maxAge} evaluation rounds are
+		 * removed. The number of cache hits and misses are reported by the
+		 * {@link EvolutionResult}. <i>The fitness cache is disabled by
+		 * default.</i>
+		 * <p>
+		 * The cache is shared by all evolution streams of the engine, e.g. by
+		 * the concurrent runs of a {@link MultiStart} or the islands of an
+		 * {@link IslandEngine}. Its entries are aged by the evaluation rounds
+		 * of all these streams, and not by the generation of a single stream.
+		 * With one stream, an evaluation round is one generation.
+		 * <p>
+		 * Caching the fitness values is only useful for expensive fitness
+		 * functions, and it requires the fitness function to be deterministic.
+		 *
+		 * @param size the maximal number of cached fitness values
+		 * @param maxAge the maximal number of evaluation rounds a fitness
+		 *        value is kept in the cache without being accessed
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code size < 1} or
+		 *         {@code maxAge < 1}
+		 */
+		public Builder<G, C> fitnessCache(final int size, final long maxAge) {
+			_evaluation = _evaluation.withCache(size, maxAge);
+			return this;
+		}
+
+		/**
+		 * Enables the pipelined evolution mode. An evolution step doesn't
+		 * wait until the fitness of all new individuals has been evaluated;
+		 * it only waits until all evaluations have been started. The
+		 * individuals whose evaluation is still running are not part of the
+		 * population of the {@link EvolutionResult}, and the selection of the
+		 * next generation starts with the already evaluated individuals. A
+		 * pending individual is added to the population of a later generation
+		 * as soon as its evaluation has been finished, but at the latest after
+		 * {@code staleness} generations. So long running evaluations no longer
+		 * stall the whole generation. <i>The pipelined mode is disabled by
+		 * default.</i>
+		 * <p>
+		 * The population of the evolution results might be smaller than the
+		 * configured population size in pipelined mode. The
+		 * {@link Engine#evolve(Population, long)} method always waits for all
+		 * evaluations. The pipelined mode is not used together with a batch or
+		 * asynchronous fitness function.
+		 *
+		 * @param staleness the maximal number of generations an evaluation is
+		 *        allowed to be pending
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code staleness < 1}
+		 */
+		public Builder<G, C> pipelined(final int staleness) {
+			_staleness = require.positive(staleness);
+			return this;
+		}
+
+		/**
+		 * The maximal evaluation time of one individual. An evaluation which
+		 * is running longer is cancelled, and the individual gets the
+		 * {@link #timeoutFitness(Comparable) timeout fitness}. The evaluation
+		 * time is measured from the start of the evaluation, and not from the
+		 * time the evaluation has been submitted to the executor. <i>Default
+		 * value is not set, which means that the engine waits for every
+		 * evaluation.</i>
+		 * <p>
+		 * Cancelling an evaluation interrupts the evaluating thread. Fitness
+		 * functions which doesn't check the interrupted state of the current
+		 * thread keep on running, but the engine doesn't wait for their
+		 * result. The timeout is used for the fitness function of the engine;
+		 * it can't be combined with a batch or asynchronous fitness function.
+		 * In pipelined evolution mode, the engine waits at most the timeout
+		 * for pending evaluations which have reached the maximal staleness.
+		 * The engine can't cancel evaluations which are executed by the
+		 * calling thread, e. g. by an executor which runs its tasks in place.
+		 *
+		 * @param timeout the maximal evaluation time of one individual
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code timeout}
+		 *         is {@code null}
+		 * @throws java.lang.IllegalArgumentException if the given
+		 *         {@code timeout} is not positive
+		 */
+		public Builder<G, C> evaluationTimeout(final Duration timeout) {
+			_evaluation = _evaluation.withTimeout(positive(timeout));
+			return this;
+		}
+
+		/**
+		 * The maximal evaluation time of the whole population of one
+		 * generation. The evaluations which are not finished at the deadline
+		 * are cancelled, and the individuals get the
+		 * {@link #timeoutFitness(Comparable) timeout fitness}. The same
+		 * restrictions as for the
+		 * {@link #evaluationTimeout(Duration) evaluation timeout} applies.
+		 * The deadline can't be used in pipelined evolution mode. <i>Default
+		 * value is not set, which means that the engine waits for every
+		 * evaluation.</i>
+		 *
+		 * @param deadline the maximal evaluation time of one generation
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code deadline}
+		 *         is {@code null}
+		 * @throws java.lang.IllegalArgumentException if the given
+		 *         {@code deadline} is not positive
+		 */
+		public Builder<G, C> evaluationDeadline(final Duration deadline) {
+			_evaluation = _evaluation.withDeadline(positive(deadline));
+			return this;
+		}
+
+		/**
+		 * The (raw) fitness value of the individuals whose evaluation has been
+		 * cancelled. This should be the worst possible fitness value, so that
+		 * the timed-out individuals are removed by the selectors. The fitness
+		 * value must be given, if an
+		 * {@link #evaluationTimeout(Duration) evaluation timeout} or an
+		 * {@link #evaluationDeadline(Duration) evaluation deadline} is set.
+		 * The timeout fitness values are not stored in the fitness cache.
+		 * <i>Default value is not set.</i>
+		 *
+		 * @param fitness the fitness value of the timed-out individuals
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code fitness}
+		 *         is {@code null}
+		 */
+		public Builder<G, C> timeoutFitness(final C fitness) {
+			_evaluation = _evaluation.withTimeoutFitness(fitness);
+			return this;
+		}
+
+		private static Duration positive(final Duration duration) {
+			if (duration.isNegative() || duration.isZero()) {
+				throw new IllegalArgumentException(format(
+					"Duration must be positive: %s", duration
+				));
+			}
+			return duration;
+		}
+
+		/**
+		 * The function which repairs invalid genotypes. An invalid individual
+		 * of the survivor or offspring population is replaced by the repaired
+		 * one, which keeps the altered genetic material and the age of the
+		 * invalid individual. If the repaired genotype is still invalid, or
+		 * {@code null}, the individual is replaced by a newly created one.
+		 * The number of repaired individuals is reported by
+		 * {@link EvolutionResult#getRepairCount()}. <i>Default value is not
+		 * set, which means that invalid individuals are replaced by newly
+		 * created ones.</i>
+		 *
+		 * @param repairer the function which maps an invalid genotype to a
+		 *        valid one
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.NullPointerException if the given {@code repairer}
+		 *         is {@code null}
+		 */
+		public Builder<G, C> repairer(
+			final Function<
+				? super Genotype<G>,
+				? extends Genotype<G>
+			> repairer
+		) {
+			_repairer = requireNonNull(repairer);
+			return this;
+		}
+
+		/**
+		 * The listener which receives the per stage performance metrics of
+		 * every evolution step. <i>Default value is not set, which means that
+		 * no metrics are collected.</i>
+		 *
+		 * @see MetricsListener
+		 *
+		 * @param listener the listener which receives the performance metrics
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> metricsListener(final MetricsListener listener) {
+			_listener = requireNonNull(listener);
+			return this;
+		}
+
+		/**
+		 * The executor used by the engine. It executes the selection, altering
+		 * and filtering steps, and, if no separate
+		 * {@link #evaluationExecutor(Executor)} is set, the fitness
+		 * evaluations. <i>Default value is set to the common
+		 * {@link ForkJoinPool}.</i>
+		 * <p>
+		 * Without an explicitly set executor, the evolution steps of small
+		 * populations are executed directly in the calling thread, since the
+		 * overhead of the concurrent execution outweighs its gain. A set
+		 * executor is used for every population size.
 		 *
 		 * @param executor the executor used by the engine
 		 * @return {@code this} builder, for command chaining
 		 */
 		public Builder<G, C> executor(final Executor executor) {
 			_executor = requireNonNull(executor);
+			_serialPopulationSize = 0;
+			return this;
+		}
+
+		/**
+		 * The executor used for evaluating the fitness function. With a
+		 * separate evaluation executor, expensive fitness evaluations are not
+		 * delaying the cheap selection, altering and filtering steps, and vice
+		 * versa, and both executors can be sized independently. The time the
+		 * stages are waiting in the executor queues is reported by the
+		 * {@link EvolutionDurations#getQueueWait(MetricsListener.Stage)}
+		 * method. <i>Default value is set to the engine
+		 * {@link #executor(Executor)}.</i>
+		 *
+		 * [code]
+		 * final ExecutorService evaluation = Executors.newFixedThreadPool(32);
+		 * final Engine&lt;DoubleGene, Double&gt; engine = Engine.builder(ff, gtf)
+		 *     .executor(ForkJoinPool.commonPool())
+		 *     .evaluationExecutor(evaluation)
+		 *     .build();
+		 * [/code]
+		 *
+		 * @param executor the executor used for evaluating the fitness
+		 *        function
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> evaluationExecutor(final Executor executor) {
+			_evaluation = _evaluation.withExecutor(executor);
 			return this;
 		}
 
@@ -968,6 +2668,11 @@ public final class Engine<
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
 		 * @return an new {@code Engine} instance from the set properties
+		 * @throws java.lang.IllegalArgumentException if an evaluation timeout
+		 *         or deadline is set, but no timeout fitness, if an evaluation
+		 *         timeout or deadline is set together with a batch or
+		 *         asynchronous fitness function, or if an evaluation deadline
+		 *         is set in pipelined evolution mode
 		 */
 		public Engine<G, C> build() {
 			return new Engine<>(
@@ -981,6 +2686,11 @@ public final class Engine<
 				getOffspringCount(),
 				getSurvivorsCount(),
 				_maximalPhenotypeAge,
+				_evaluation,
+				_staleness,
+				_serialPopulationSize,
+				_repairer,
+				_listener,
 				_executor,
 				_clock
 			);
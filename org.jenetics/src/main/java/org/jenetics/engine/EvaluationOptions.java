@@ -0,0 +1,249 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+import org.jenetics.internal.util.require;
+
+/**
+ * The options of the fitness evaluation of an {@link Engine}. Objects of this
+ * class are immutable; every {@code with} method returns a changed copy. The
+ * {@link Engine.Builder} collects the options in one object, which is handed
+ * to the engine and copied back by {@link Engine#builder()}.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class EvaluationOptions<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	// Optional batch fitness function; null if not configured.
+	final Function<
+		? super List<Genotype<G>>,
+		? extends List<? extends C>
+	> batchFunction;
+	final int batchSize;
+
+	// Optional asynchronous fitness function; null if not configured.
+	final Function<
+		? super Genotype<G>,
+		? extends CompletionStage<? extends C>
+	> asyncFunction;
+	final int maxInFlight;
+
+	// Optional evaluation timeout and deadline; null if not configured.
+	final Duration timeout;
+	final Duration deadline;
+	final C timeoutFitness;
+
+	// Executor of the fitness evaluations; null if the fitness is evaluated
+	// by the executor of the evolving steps.
+	final Executor executor;
+
+	// The size and the maximal entry age of the fitness cache; zero if no
+	// cache is configured.
+	final int cacheSize;
+	final long cacheAge;
+
+	private EvaluationOptions(
+		final Function<
+			? super List<Genotype<G>>,
+			? extends List<? extends C>
+		> batchFunction,
+		final int batchSize,
+		final Function<
+			? super Genotype<G>,
+			? extends CompletionStage<? extends C>
+		> asyncFunction,
+		final int maxInFlight,
+		final Duration timeout,
+		final Duration deadline,
+		final C timeoutFitness,
+		final Executor executor,
+		final int cacheSize,
+		final long cacheAge
+	) {
+		this.batchFunction = batchFunction;
+		this.batchSize = require.positive(batchSize);
+		this.asyncFunction = asyncFunction;
+		this.maxInFlight = require.positive(maxInFlight);
+		this.timeout = timeout;
+		this.deadline = deadline;
+		this.timeoutFitness = timeoutFitness;
+		this.executor = executor;
+		this.cacheSize = require.nonNegative(cacheSize);
+		this.cacheAge = cacheAge;
+	}
+
+	/**
+	 * Return the default evaluation options: the fitness function of the
+	 * engine is evaluated, without timeout and cache, by the executor of the
+	 * evolving steps.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the default evaluation options
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluationOptions<G, C> of() {
+		return new EvaluationOptions<>(
+			null, 1, null, 1, null, null, null, null, 0, 0
+		);
+	}
+
+	/**
+	 * Return a new fitness cache, as configured by this options.
+	 *
+	 * @return a new fitness cache, or {@code null} if no cache is configured
+	 */
+	FitnessCache<G, C> newFitnessCache() {
+		return cacheSize > 0 ? new FitnessCache<>(cacheSize, cacheAge) : null;
+	}
+
+	/**
+	 * Return a copy with the given batch fitness function, which replaces the
+	 * asynchronous fitness function.
+	 *
+	 * @param function the batch fitness function
+	 * @param size the maximal batch size
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withBatchFunction(
+		final Function<
+			? super List<Genotype<G>>,
+			? extends List<? extends C>
+		> function,
+		final int size
+	) {
+		return new EvaluationOptions<>(
+			requireNonNull(function), size, null, maxInFlight,
+			timeout, deadline, timeoutFitness, executor, cacheSize, cacheAge
+		);
+	}
+
+	/**
+	 * Return a copy with the given asynchronous fitness function, which
+	 * replaces the batch fitness function.
+	 *
+	 * @param function the asynchronous fitness function
+	 * @param maxInFlight the maximal number of running evaluations
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withAsyncFunction(
+		final Function<
+			? super Genotype<G>,
+			? extends CompletionStage<? extends C>
+		> function,
+		final int maxInFlight
+	) {
+		return new EvaluationOptions<>(
+			null, batchSize, requireNonNull(function), maxInFlight,
+			timeout, deadline, timeoutFitness, executor, cacheSize, cacheAge
+		);
+	}
+
+	/**
+	 * Return a copy with the given evaluation timeout.
+	 *
+	 * @param timeout the maximal evaluation time of one individual
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withTimeout(final Duration timeout) {
+		return new EvaluationOptions<>(
+			batchFunction, batchSize, asyncFunction, maxInFlight,
+			requireNonNull(timeout), deadline, timeoutFitness, executor,
+			cacheSize, cacheAge
+		);
+	}
+
+	/**
+	 * Return a copy with the given evaluation deadline.
+	 *
+	 * @param deadline the maximal evaluation time of one generation
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withDeadline(final Duration deadline) {
+		return new EvaluationOptions<>(
+			batchFunction, batchSize, asyncFunction, maxInFlight,
+			timeout, requireNonNull(deadline), timeoutFitness, executor,
+			cacheSize, cacheAge
+		);
+	}
+
+	/**
+	 * Return a copy with the given fitness of the timed-out individuals.
+	 *
+	 * @param fitness the fitness of the timed-out individuals
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withTimeoutFitness(final C fitness) {
+		return new EvaluationOptions<>(
+			batchFunction, batchSize, asyncFunction, maxInFlight,
+			timeout, deadline, requireNonNull(fitness), executor,
+			cacheSize, cacheAge
+		);
+	}
+
+	/**
+	 * Return a copy with the given evaluation executor.
+	 *
+	 * @param executor the executor of the fitness evaluations
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withExecutor(final Executor executor) {
+		return new EvaluationOptions<>(
+			batchFunction, batchSize, asyncFunction, maxInFlight,
+			timeout, deadline, timeoutFitness, requireNonNull(executor),
+			cacheSize, cacheAge
+		);
+	}
+
+	/**
+	 * Return a copy with the given fitness cache configuration.
+	 *
+	 * @param size the maximal number of cached fitness values
+	 * @param maxAge the maximal number of evaluation rounds a fitness value
+	 *        is kept without being accessed
+	 * @return the changed options
+	 */
+	EvaluationOptions<G, C> withCache(final int size, final long maxAge) {
+		return new EvaluationOptions<>(
+			batchFunction, batchSize, asyncFunction, maxInFlight,
+			timeout, deadline, timeoutFitness, executor,
+			require.positive(size), require.positive(maxAge)
+		);
+	}
+
+}
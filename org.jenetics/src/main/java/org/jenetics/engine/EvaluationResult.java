@@ -0,0 +1,68 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+
+import org.jenetics.Gene;
+import org.jenetics.Population;
+
+/**
+ * Represents the result of the evaluation step.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class EvaluationResult<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	final Population<G, C> population;
+
+	// The number of fitness evaluations actually started.
+	final int evaluationCount;
+	final int cacheHitCount;
+	final int cacheMissCount;
+
+	// The time until the first evaluation has been started by the executor.
+	final Duration queueWait;
+
+	EvaluationResult(
+		final Population<G, C> population,
+		final int evaluationCount,
+		final int cacheHitCount,
+		final int cacheMissCount,
+		final Duration queueWait
+	) {
+		this.population = requireNonNull(population);
+		this.evaluationCount = evaluationCount;
+		this.cacheHitCount = cacheHitCount;
+		this.cacheMissCount = cacheMissCount;
+		this.queueWait = requireNonNull(queueWait);
+	}
+
+}
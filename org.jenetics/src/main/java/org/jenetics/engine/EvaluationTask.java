@@ -0,0 +1,130 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jenetics.Gene;
+import org.jenetics.Phenotype;
+
+/**
+ * The fitness evaluation of one phenotype, which is executed by the engine
+ * executor. Cancelling the evaluation interrupts the evaluating thread, if
+ * the evaluation is already running. Fitness functions which are checking
+ * the interrupted state of the current thread are therefore stopped
+ * cooperatively. A not yet started evaluation is skipped.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class EvaluationTask<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends CompletableFuture<Phenotype<G, C>>
+	implements Runnable
+{
+
+	private final Phenotype<G, C> _phenotype;
+	private final Runnable _evaluation;
+
+	// The evaluating thread; only set while the evaluation is running.
+	private Thread _thread;
+	private boolean _interrupted = false;
+	private volatile long _started = -1;
+
+	/**
+	 * Create a new evaluation task.
+	 *
+	 * @param phenotype the phenotype to evaluate
+	 * @param evaluation the evaluation of the given {@code phenotype}
+	 */
+	EvaluationTask(
+		final Phenotype<G, C> phenotype,
+		final Runnable evaluation
+	) {
+		_phenotype = requireNonNull(phenotype);
+		_evaluation = requireNonNull(evaluation);
+	}
+
+	Phenotype<G, C> phenotype() {
+		return _phenotype;
+	}
+
+	/**
+	 * Return the {@link System#nanoTime()} the evaluation has been started,
+	 * or {@code -1} if the evaluation hasn't been started yet.
+	 *
+	 * @return the start time of the evaluation, or {@code -1}
+	 */
+	long started() {
+		return _started;
+	}
+
+	@Override
+	public void run() {
+		synchronized (this) {
+			if (isDone()) {
+				return;
+			}
+			_thread = Thread.currentThread();
+			_started = System.nanoTime();
+		}
+
+		try {
+			_evaluation.run();
+			complete(_phenotype);
+		} catch (Throwable e) {
+			completeExceptionally(e);
+		} finally {
+			synchronized (this) {
+				_thread = null;
+
+				// The interrupt of the cancellation must not leak to the next
+				// task of the executor thread.
+				if (_interrupted) {
+					Thread.interrupted();
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean cancel(final boolean mayInterruptIfRunning) {
+		final boolean cancelled = super.cancel(mayInterruptIfRunning);
+		if (cancelled && mayInterruptIfRunning) {
+			synchronized (this) {
+				if (_thread != null) {
+					_thread.interrupt();
+					_interrupted = true;
+				}
+			}
+		}
+
+		return cancelled;
+	}
+
+}
@@ -24,12 +24,20 @@ import static org.jenetics.internal.util.Equality.eq;
 
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 import org.jenetics.internal.util.Equality;
 import org.jenetics.internal.util.Hash;
 
+import org.jenetics.engine.MetricsListener.Stage;
+
 /**
- * This class contains timing information about one evolution step.
+ * This class contains timing information about one evolution step. Beside
+ * the execution durations of the evolution stages, it contains the time every
+ * {@link Stage} has been waiting in the queue of its executor, see
+ * {@link #getQueueWait(Stage)}.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
  * @since 3.0
@@ -63,6 +71,10 @@ public final class EvolutionDurations
 	private final Duration _evaluationDuration;
 	private final Duration _evolveDuration;
 
+	// The non-zero queue waiting times. The field is missing in instances
+	// serialized before it was added, see readResolve.
+	private final EnumMap<Stage, Duration> _queueWaits;
+
 	EvolutionDurations(
 		final Duration offspringSelectionDuration,
 		final Duration survivorsSelectionDuration,
@@ -70,7 +82,8 @@ public final class EvolutionDurations
 		final Duration offspringFilterDuration,
 		final Duration survivorFilterDuration,
 		final Duration evaluationDuration,
-		final Duration evolveDuration
+		final Duration evolveDuration,
+		final EnumMap<Stage, Duration> queueWaits
 	) {
 		_offspringSelectionDuration = requireNonNull(offspringSelectionDuration);
 		_survivorsSelectionDuration = requireNonNull(survivorsSelectionDuration);
@@ -79,6 +92,7 @@ public final class EvolutionDurations
 		_survivorFilterDuration = requireNonNull(survivorFilterDuration);
 		_evaluationDuration = requireNonNull(evaluationDuration);
 		_evolveDuration = requireNonNull(evolveDuration);
+		_queueWaits = requireNonNull(queueWaits);
 	}
 
 	/**
@@ -150,6 +164,41 @@ public final class EvolutionDurations
 		return _evolveDuration;
 	}
 
+	/**
+	 * Return the time the task of the given evolution {@code stage} has been
+	 * waiting in the queue of its executor, after it became ready for
+	 * execution. For the {@link Stage#EVALUATION} stage, this is the time
+	 * until the first fitness evaluation of the generation has been started
+	 * by the evaluation executor. Stages which are executed directly by the
+	 * calling thread have a waiting time of zero.
+	 *
+	 * @see Engine.Builder#evaluationExecutor(java.util.concurrent.Executor)
+	 *
+	 * @param stage the evolution stage
+	 * @return the queue waiting time of the given evolution {@code stage}
+	 * @throws NullPointerException if the given {@code stage} is {@code null}
+	 */
+	public Duration getQueueWait(final Stage stage) {
+		return _queueWaits.getOrDefault(requireNonNull(stage), Duration.ZERO);
+	}
+
+	// Instances serialized without queue waiting times are getting zero
+	// waiting times.
+	private Object readResolve() {
+		return _queueWaits != null ?
+			this :
+			new EvolutionDurations(
+				_offspringSelectionDuration,
+				_survivorsSelectionDuration,
+				_offspringAlterDuration,
+				_offspringFilterDuration,
+				_survivorFilterDuration,
+				_evaluationDuration,
+				_evolveDuration,
+				new EnumMap<>(Stage.class)
+			);
+	}
+
 	/**
 	 * Compares two durations objects. Only the {@link #getEvolveDuration()}
 	 * property is taken into account for the comparison.
@@ -174,7 +223,8 @@ public final class EvolutionDurations
 			.and(_offspringFilterDuration)
 			.and(_survivorFilterDuration)
 			.and(_evaluationDuration)
-			.and(_evolveDuration).value();
+			.and(_evolveDuration)
+			.and(_queueWaits).value();
 	}
 
 	@Override
@@ -186,7 +236,8 @@ public final class EvolutionDurations
 			eq(_offspringFilterDuration, d._offspringFilterDuration) &&
 			eq(_survivorFilterDuration, d._survivorFilterDuration) &&
 			eq(_evaluationDuration, d._evaluationDuration) &&
-			eq(_evolveDuration, d._evolveDuration)
+			eq(_evolveDuration, d._evolveDuration) &&
+			eq(_queueWaits, d._queueWaits)
 		);
 	}
 
@@ -206,7 +257,7 @@ public final class EvolutionDurations
 	 * @param evaluationDuration the duration needed for evaluating the fitness
 	 *        function of the new individuals
 	 * @param evolveDuration the duration needed for the whole evolve step
-	 * @return an new durations object
+	 * @return an new durations object, with zero queue waiting times
 	 * @throws NullPointerException if one of the arguments is
 	 *         {@code null}
 	 */
@@ -219,6 +270,57 @@ public final class EvolutionDurations
 		final Duration evaluationDuration,
 		final Duration evolveDuration
 	) {
+		return of(
+			offspringSelectionDuration,
+			survivorsSelectionDuration,
+			offspringAlterDuration,
+			offspringFilterDuration,
+			survivorFilterDuration,
+			evaluationDuration,
+			evolveDuration,
+			Collections.emptyMap()
+		);
+	}
+
+	/**
+	 * Return an new {@code EvolutionDurations} object with the given values.
+	 *
+	 * @param offspringSelectionDuration the duration needed for selecting the
+	 *        offspring population
+	 * @param survivorsSelectionDuration the duration needed for selecting the
+	 *        survivors population
+	 * @param offspringAlterDuration the duration needed for altering the
+	 *        offspring population
+	 * @param offspringFilterDuration the duration needed for removing and
+	 *        replacing invalid offspring individuals
+	 * @param survivorFilterDuration the duration needed for removing and
+	 *        replacing old and invalid survivor individuals
+	 * @param evaluationDuration the duration needed for evaluating the fitness
+	 *        function of the new individuals
+	 * @param evolveDuration the duration needed for the whole evolve step
+	 * @param queueWaits the queue waiting times of the evolution stages; the
+	 *        waiting time of a missing stage is zero
+	 * @return an new durations object
+	 * @throws NullPointerException if one of the arguments, or one of the
+	 *         waiting times, is {@code null}
+	 */
+	public static EvolutionDurations of(
+		final Duration offspringSelectionDuration,
+		final Duration survivorsSelectionDuration,
+		final Duration offspringAlterDuration,
+		final Duration offspringFilterDuration,
+		final Duration survivorFilterDuration,
+		final Duration evaluationDuration,
+		final Duration evolveDuration,
+		final Map<Stage, Duration> queueWaits
+	) {
+		final EnumMap<Stage, Duration> waits = new EnumMap<>(Stage.class);
+		for (Map.Entry<Stage, Duration> wait : queueWaits.entrySet()) {
+			if (!requireNonNull(wait.getValue()).isZero()) {
+				waits.put(wait.getKey(), wait.getValue());
+			}
+		}
+
 		return new EvolutionDurations(
 			offspringSelectionDuration,
 			survivorsSelectionDuration,
@@ -226,7 +328,8 @@ public final class EvolutionDurations
 			offspringFilterDuration,
 			survivorFilterDuration,
 			evaluationDuration,
-			evolveDuration
+			evolveDuration,
+			waits
 		);
 	}
 
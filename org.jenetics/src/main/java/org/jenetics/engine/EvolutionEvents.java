@@ -0,0 +1,232 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import org.jenetics.internal.util.require;
+
+/**
+ * Java Flight Recorder events of the evolution {@link Engine}. The events are
+ * enabled and disabled at runtime by the flight recording settings, e.g.
+ * <pre>{@code
+ * jcmd <pid> JFR.start settings=profile +org.jenetics.Evolve#enabled=true
+ * }</pre>
+ * If no recording is running, or the event is disabled, creating and
+ * committing an event is nearly free.
+ * <p>
+ * This class doesn't depend on the {@code jdk.jfr} API. The actual events
+ * are implemented by the {@code JfrEvolutionEvents} class, which is compiled
+ * separately, from the {@code jfr} source set, and is loaded reflectively.
+ * If the running JVM doesn't support the {@code jdk.jfr} API, or the class
+ * is not available, all events are no-ops.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class EvolutionEvents {
+	private EvolutionEvents() {require.noInstance();}
+
+	// The implementation of the events with the 'jdk.jfr' API.
+	private static final String JFR_EVENTS =
+		"org.jenetics.engine.JfrEvolutionEvents";
+
+	private static final Factory NOOP = new Factory() {
+		@Override
+		public Evolve evolve() {
+			return (generation, size, alters, kills, invalids, repairs) -> {};
+		}
+		@Override
+		public Evaluate evaluate() {
+			return (generation, size, evaluations, hits) -> {};
+		}
+		@Override
+		public Select select() {
+			return (generation, selector, size, count) -> {};
+		}
+		@Override
+		public Alter alter() {
+			return (generation, alterer, size, count) -> {};
+		}
+	};
+
+	private static final Factory FACTORY = factory();
+
+	// Is 'true' if the events are recorded with the 'jdk.jfr' API.
+	static final boolean AVAILABLE = FACTORY != NOOP;
+
+	private static Factory factory() {
+		try {
+			Class.forName("jdk.jfr.Event");
+			return (Factory)Class.forName(JFR_EVENTS).newInstance();
+		} catch (ReflectiveOperationException|LinkageError|ClassCastException e) {
+			return NOOP;
+		}
+	}
+
+	/**
+	 * Creates the begun events.
+	 */
+	interface Factory {
+		Evolve evolve();
+		Evaluate evaluate();
+		Select select();
+		Alter alter();
+	}
+
+	/**
+	 * One evolution step of the evolution engine.
+	 */
+	@FunctionalInterface
+	interface Evolve {
+		void commit(
+			final long generation,
+			final int populationSize,
+			final int alterCount,
+			final int killCount,
+			final int invalidCount,
+			final int repairCount
+		);
+	}
+
+	/**
+	 * Fitness evaluation of the population of one generation.
+	 */
+	@FunctionalInterface
+	interface Evaluate {
+		void commit(
+			final long generation,
+			final int populationSize,
+			final int evaluationCount,
+			final int cacheHitCount
+		);
+	}
+
+	/**
+	 * Selection of the offspring or survivor population.
+	 */
+	@FunctionalInterface
+	interface Select {
+		void commit(
+			final long generation,
+			final Object selector,
+			final int populationSize,
+			final int count
+		);
+	}
+
+	/**
+	 * Altering of the offspring population by a single alterer.
+	 */
+	@FunctionalInterface
+	interface Alter {
+		void commit(
+			final long generation,
+			final Object alterer,
+			final int populationSize,
+			final int alterCount
+		);
+	}
+
+	/**
+	 * Begins a new evolve event.
+	 *
+	 * @return the begun event
+	 */
+	static Evolve evolve() {
+		return FACTORY.evolve();
+	}
+
+	static void commitEvolve(
+		final Evolve event,
+		final long generation,
+		final int populationSize,
+		final int alterCount,
+		final int killCount,
+		final int invalidCount,
+		final int repairCount
+	) {
+		event.commit(
+			generation,
+			populationSize,
+			alterCount,
+			killCount,
+			invalidCount,
+			repairCount
+		);
+	}
+
+	/**
+	 * Begins a new evaluate event.
+	 *
+	 * @return the begun event
+	 */
+	static Evaluate evaluate() {
+		return FACTORY.evaluate();
+	}
+
+	static void commitEvaluate(
+		final Evaluate event,
+		final long generation,
+		final int populationSize,
+		final int evaluationCount,
+		final int cacheHitCount
+	) {
+		event.commit(generation, populationSize, evaluationCount, cacheHitCount);
+	}
+
+	/**
+	 * Begins a new select event.
+	 *
+	 * @return the begun event
+	 */
+	static Select select() {
+		return FACTORY.select();
+	}
+
+	static void commitSelect(
+		final Select event,
+		final long generation,
+		final Object selector,
+		final int populationSize,
+		final int count
+	) {
+		event.commit(generation, selector, populationSize, count);
+	}
+
+	/**
+	 * Begins a new alter event.
+	 *
+	 * @return the begun event
+	 */
+	static Alter alter() {
+		return FACTORY.alter();
+	}
+
+	static void commitAlter(
+		final Alter event,
+		final long generation,
+		final Object alterer,
+		final int populationSize,
+		final int alterCount
+	) {
+		event.commit(generation, alterer, populationSize, alterCount);
+	}
+
+}
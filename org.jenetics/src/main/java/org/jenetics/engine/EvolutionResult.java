@@ -24,6 +24,8 @@ import static org.jenetics.internal.util.Equality.eq;
 import static org.jenetics.internal.util.require.safe;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
@@ -65,6 +67,12 @@ public final class EvolutionResult<
 	private final int _killCount;
 	private final int _invalidCount;
 	private final int _alterCount;
+	private final int _cacheHitCount;
+	private final int _cacheMissCount;
+	private final int _repairCount;
+
+	// The not finished evaluations, in pipelined evolution mode.
+	private final transient List<PendingPhenotype<G, C>> _pending;
 
 	private final Lazy<Phenotype<G, C>> _best;
 	private final Lazy<Phenotype<G, C>> _worst;
@@ -77,7 +85,11 @@ public final class EvolutionResult<
 		final EvolutionDurations durations,
 		final int killCount,
 		final int invalidCount,
-		final int alterCount
+		final int alterCount,
+		final int cacheHitCount,
+		final int cacheMissCount,
+		final int repairCount,
+		final List<PendingPhenotype<G, C>> pending
 	) {
 		_optimize = requireNonNull(optimize);
 		_population = requireNonNull(population);
@@ -87,6 +99,10 @@ public final class EvolutionResult<
 		_killCount = killCount;
 		_invalidCount = invalidCount;
 		_alterCount = alterCount;
+		_cacheHitCount = cacheHitCount;
+		_cacheMissCount = cacheMissCount;
+		_repairCount = repairCount;
+		_pending = requireNonNull(pending);
 
 		_best = Lazy.of((Supplier<Phenotype<G, C>> & Serializable)this::best);
 		_worst = Lazy.of((Supplier<Phenotype<G, C>> & Serializable)this::worst);
@@ -172,6 +188,47 @@ public final class EvolutionResult<
 		return _alterCount;
 	}
 
+	/**
+	 * Return the number of fitness values which has been taken from the
+	 * fitness cache, instead of calling the fitness function. This value is
+	 * always zero if the {@link Engine} has no fitness cache configured.
+	 *
+	 * @see Engine.Builder#fitnessCache(int, long)
+	 *
+	 * @return the number of fitness cache hits
+	 */
+	public int getCacheHitCount() {
+		return _cacheHitCount;
+	}
+
+	/**
+	 * Return the number of fitness values which couldn't be found in the
+	 * fitness cache and had to be calculated by the fitness function. This
+	 * value is always zero if the {@link Engine} has no fitness cache
+	 * configured.
+	 *
+	 * @see Engine.Builder#fitnessCache(int, long)
+	 *
+	 * @return the number of fitness cache misses
+	 */
+	public int getCacheMissCount() {
+		return _cacheMissCount;
+	}
+
+	/**
+	 * Return the number of invalid individuals which has been repaired,
+	 * instead of being replaced by newly created individuals. The repaired
+	 * individuals are part of the {@link #getInvalidCount()}. This value is
+	 * always zero if the {@link Engine} has no repair function configured.
+	 *
+	 * @see Engine.Builder#repairer(java.util.function.Function)
+	 *
+	 * @return the number of repaired individuals
+	 */
+	public int getRepairCount() {
+		return _repairCount;
+	}
+
 	/**
 	 * Return the best {@code Phenotype} of the result population.
 	 *
@@ -215,7 +272,47 @@ public final class EvolutionResult<
 	 * @return the next evolution start object
 	 */
 	EvolutionStart<G, C> next() {
-		return new EvolutionStart<>(_population, _generation + 1);
+		return new EvolutionStart<>(
+			_population,
+			_generation + 1,
+			_pending != null ? _pending : Collections.emptyList()
+		);
+	}
+
+	/**
+	 * Return the not finished evaluations of this evolution result. The
+	 * pending phenotypes are not part of the result population.
+	 *
+	 * @return the not finished evaluations
+	 */
+	List<PendingPhenotype<G, C>> pending() {
+		return _pending != null ? _pending : Collections.emptyList();
+	}
+
+	/**
+	 * Return a copy of this evolution result with the given not finished
+	 * evaluations.
+	 *
+	 * @param pending the not finished evaluations
+	 * @return a new evolution result with the given pending phenotypes
+	 */
+	EvolutionResult<G, C> withPending(
+		final List<PendingPhenotype<G, C>> pending
+	) {
+		return new EvolutionResult<>(
+			_optimize,
+			_population,
+			_generation,
+			_totalGenerations,
+			_durations,
+			_killCount,
+			_invalidCount,
+			_alterCount,
+			_cacheHitCount,
+			_cacheMissCount,
+			_repairCount,
+			pending
+		);
 	}
 
 	/**
@@ -240,7 +337,10 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_alterCount,
+			_cacheHitCount,
+			_cacheMissCount,
+			_repairCount
 		);
 	}
 
@@ -255,6 +355,9 @@ public final class EvolutionResult<
 			.and(_killCount)
 			.and(_invalidCount)
 			.and(_alterCount)
+			.and(_cacheHitCount)
+			.and(_cacheMissCount)
+			.and(_repairCount)
 			.and(getBestFitness()).value();
 	}
 
@@ -269,6 +372,9 @@ public final class EvolutionResult<
 			eq(_killCount, result._killCount) &&
 			eq(_invalidCount, result._invalidCount) &&
 			eq(_alterCount, result._alterCount) &&
+			eq(_cacheHitCount, result._cacheHitCount) &&
+			eq(_cacheMissCount, result._cacheMissCount) &&
+			eq(_repairCount, result._repairCount) &&
 			eq(getBestFitness(), result.getBestFitness())
 		);
 	}
@@ -337,6 +443,112 @@ public final class EvolutionResult<
 		);
 	}
 
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @since 3.0
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of invalid individuals
+	 * @param alterCount the number of individuals which has been altered
+	 * @param cacheHitCount the number of fitness values taken from the fitness
+	 *        cache
+	 * @param cacheMissCount the number of fitness values not found in the
+	 *        fitness cache
+	 * @param repairCount the number of invalid individuals which has been
+	 *        repaired
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final int cacheHitCount,
+		final int cacheMissCount,
+		final int repairCount
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			cacheHitCount,
+			cacheMissCount,
+			repairCount,
+			Collections.emptyList()
+		);
+	}
+
+	/**
+	 * Return an new {@code EvolutionResult} object with the given values.
+	 *
+	 * @param optimize the optimization strategy used
+	 * @param population the population after the evolution step
+	 * @param generation the current generation
+	 * @param totalGenerations the overall number of generations
+	 * @param durations the timing (meta) information
+	 * @param killCount the number of individuals which has been killed
+	 * @param invalidCount the number of individuals which has been removed as
+	 *        invalid
+	 * @param alterCount the number of individuals which has been altered
+	 * @param cacheHitCount the number of fitness values taken from the fitness
+	 *        cache
+	 * @param cacheMissCount the number of fitness values not found in the
+	 *        fitness cache
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return an new evolution result object
+	 * @throws java.lang.NullPointerException if one of the parameters is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionResult<G, C> of(
+		final Optimize optimize,
+		final Population<G, C> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final int cacheHitCount,
+		final int cacheMissCount
+	) {
+		return new EvolutionResult<>(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			cacheHitCount,
+			cacheMissCount,
+			0,
+			Collections.emptyList()
+		);
+	}
+
 	/**
 	 * Return an new {@code EvolutionResult} object with the given values.
 	 *
@@ -374,7 +586,11 @@ public final class EvolutionResult<
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			alterCount,
+			0,
+			0,
+			0,
+			Collections.emptyList()
 		);
 	}
 
@@ -413,7 +629,11 @@ public final class EvolutionResult<
 			durations,
 			killCount,
 			invalidCount,
-			alterCount
+			alterCount,
+			0,
+			0,
+			0,
+			Collections.emptyList()
 		);
 	}
 
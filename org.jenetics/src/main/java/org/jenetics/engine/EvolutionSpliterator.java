@@ -69,7 +69,13 @@ final class EvolutionSpliterator<
 		action.accept(result);
 		_start = result.next();
 
-		return _proceed.test(result);
+		final boolean proceed = _proceed.test(result);
+		if (!proceed) {
+			// The still running evaluations are no longer needed.
+			result.pending().forEach(PendingPhenotype::cancel);
+		}
+
+		return proceed;
 	}
 
 	@Override
@@ -21,6 +21,9 @@ package org.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.jenetics.Gene;
 import org.jenetics.Population;
 
@@ -42,12 +45,25 @@ final class EvolutionStart<
 	final Population<G, C> population;
 	final long generation;
 
+	// The not finished evaluations of the previous generations, in pipelined
+	// evolution mode.
+	final List<PendingPhenotype<G, C>> pending;
+
 	EvolutionStart(
 		final Population<G, C> population,
-		final long generation
+		final long generation,
+		final List<PendingPhenotype<G, C>> pending
 	) {
 		this.population = requireNonNull(population);
 		this.generation = generation;
+		this.pending = requireNonNull(pending);
+	}
+
+	EvolutionStart(
+		final Population<G, C> population,
+		final long generation
+	) {
+		this(population, generation, Collections.emptyList());
 	}
 
 }
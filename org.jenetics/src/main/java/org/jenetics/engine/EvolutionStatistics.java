@@ -69,6 +69,8 @@ import org.jenetics.stat.MinMax;
  |               Altered: sum=7,331; mean=610.916666667                      |
  |                Killed: sum=0; mean=0.000000000                            |
  |              Invalids: sum=0; mean=0.000000000                            |
+ |            Cache hits: sum=0; mean=0.000000000                            |
+ |          Cache misses: sum=0; mean=0.000000000                            |
  +---------------------------------------------------------------------------+
  |  Population statistics                                                    |
  +---------------------------------------------------------------------------+
@@ -106,6 +108,8 @@ public abstract class EvolutionStatistics<
 	private final IntMomentStatistics _killed = new IntMomentStatistics();
 	private final IntMomentStatistics _invalids = new IntMomentStatistics();
 	private final IntMomentStatistics _altered = new IntMomentStatistics();
+	private final IntMomentStatistics _cacheHits = new IntMomentStatistics();
+	private final IntMomentStatistics _cacheMisses = new IntMomentStatistics();
 
 	// The population statistics values.
 	final LongMomentStatistics _age = new LongMomentStatistics();
@@ -121,6 +125,8 @@ public abstract class EvolutionStatistics<
 		_killed.accept(result.getKillCount());
 		_invalids.accept(result.getInvalidCount());
 		_altered.accept(result.getAlterCount());
+		_cacheHits.accept(result.getCacheHitCount());
+		_cacheMisses.accept(result.getCacheMissCount());
 
 		result.getPopulation()
 			.forEach(pt -> accept(pt, result.getGeneration()));
@@ -232,6 +238,26 @@ public abstract class EvolutionStatistics<
 		return _altered;
 	}
 
+	/**
+	 * Return the statistics about the fitness values taken from the fitness
+	 * cache during the evolution process.
+	 *
+	 * @return fitness cache hit statistics
+	 */
+	public IntMomentStatistics getCacheHits() {
+		return _cacheHits;
+	}
+
+	/**
+	 * Return the statistics about the fitness values not found in the fitness
+	 * cache during the evolution process.
+	 *
+	 * @return fitness cache miss statistics
+	 */
+	public IntMomentStatistics getCacheMisses() {
+		return _cacheMisses;
+	}
+
 	/**
 	 * Return the statistics about the individuals age.
 	 *
@@ -269,7 +295,9 @@ public abstract class EvolutionStatistics<
 			format(cpattern, "Generations:", i(_altered.getCount())) +
 			format(cpattern, "Altered:", i(_altered)) +
 			format(cpattern, "Killed:", i(_killed)) +
-			format(cpattern, "Invalids:", i(_invalids));
+			format(cpattern, "Invalids:", i(_invalids)) +
+			format(cpattern, "Cache hits:", i(_cacheHits)) +
+			format(cpattern, "Cache misses:", i(_cacheMisses));
 	}
 
 	private static String d(final DoubleMomentStatistics statistics) {
@@ -91,6 +91,21 @@ final class EvolutionStreamImpl<
 		);
 	}
 
+	/**
+	 * Limits the evolution stream by a proceed predicate, which counts the
+	 * evolution results. The pending evaluations of the last result are
+	 * cancelled like for the {@link #limit(Predicate)} method.
+	 */
+	@Override
+	public Stream<EvolutionResult<G, C>> limit(final long maxSize) {
+		if (maxSize <= 0) {
+			return super.limit(maxSize);
+		}
+
+		final long[] count = {0};
+		return limit(r -> ++count[0] < maxSize);
+	}
+
 	private static final Predicate<?> TRUE = a -> true;
 
 	@SuppressWarnings("unchecked")
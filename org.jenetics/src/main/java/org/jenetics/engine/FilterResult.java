@@ -42,15 +42,18 @@ final class FilterResult<
 	final Population<G, C> population;
 	final int killCount;
 	final int invalidCount;
+	final int repairCount;
 
 	FilterResult(
 		final Population<G, C> population,
 		final int killCount,
-		final int invalidCount
+		final int invalidCount,
+		final int repairCount
 	) {
 		this.population = requireNonNull(population);
 		this.killCount = killCount;
 		this.invalidCount = invalidCount;
+		this.repairCount = repairCount;
 	}
 
 }
@@ -0,0 +1,157 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Genotype;
+
+/**
+ * Bounded, thread-safe cache for already calculated (raw) fitness values. The
+ * entries are ordered by their last access, which allows to evict the least
+ * recently used entries, if the maximal cache size is exceeded, and the
+ * entries which hasn't been accessed for more than {@code maxAge} ticks.
+ * <p>
+ * The age of the entries is measured by a clock of the cache, which is
+ * advanced by every {@link #evict()} call, and not by the generation of the
+ * evolution stream. So a cache which is shared by several streams of an
+ * engine, e.g. by the islands of an {@link IslandEngine}, counts the
+ * evaluation rounds of all streams.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class FitnessCache<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final int _maxSize;
+	private final long _maxAge;
+
+	private final Map<Genotype<G>, CachedFitness<C>> _entries;
+	private long _clock = 0;
+
+	/**
+	 * Create a new fitness cache with the given parameters.
+	 *
+	 * @param maxSize the maximal number of cached fitness values
+	 * @param maxAge the maximal number of clock ticks an entry is kept in the
+	 *        cache without being accessed
+	 * @throws IllegalArgumentException if one of the arguments is smaller than
+	 *         one
+	 */
+	FitnessCache(final int maxSize, final long maxAge) {
+		_maxSize = require.positive(maxSize);
+		_maxAge = require.positive(maxAge);
+
+		_entries = new LinkedHashMap<Genotype<G>, CachedFitness<C>>(
+			16, 0.75F, true
+		) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+				final Map.Entry<Genotype<G>, CachedFitness<C>> eldest
+			) {
+				return size() > _maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Return the cached fitness value of the given {@code genotype}, or
+	 * {@code null} if the cache doesn't contain a value for it.
+	 *
+	 * @param genotype the genotype to look up
+	 * @return the cached fitness value or {@code null}
+	 */
+	synchronized C get(final Genotype<G> genotype) {
+		final CachedFitness<C> entry = _entries.get(genotype);
+		if (entry != null) {
+			entry.accessed = _clock;
+			return entry.fitness;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Put the given fitness value into the cache.
+	 *
+	 * @param genotype the genotype of the calculated fitness value
+	 * @param fitness the calculated fitness value
+	 */
+	synchronized void put(final Genotype<G> genotype, final C fitness) {
+		_entries.put(genotype, new CachedFitness<>(requireNonNull(fitness), _clock));
+	}
+
+	/**
+	 * Advances the clock of the cache by one tick and removes all entries
+	 * which hasn't been accessed for more than {@code maxAge} ticks. Since
+	 * the entries are in access order, only the evicted entries must be
+	 * visited.
+	 *
+	 * @return the number of removed entries
+	 */
+	synchronized int evict() {
+		++_clock;
+		int count = 0;
+
+		final Iterator<CachedFitness<C>> it = _entries.values().iterator();
+		while (it.hasNext() && _clock - it.next().accessed > _maxAge) {
+			it.remove();
+			++count;
+		}
+
+		return count;
+	}
+
+	/**
+	 * Return the current number of cached fitness values.
+	 *
+	 * @return the current number of cached fitness values
+	 */
+	synchronized int size() {
+		return _entries.size();
+	}
+
+	private static final class CachedFitness<C> {
+		final C fitness;
+		long accessed;
+
+		CachedFitness(final C fitness, final long accessed) {
+			this.fitness = fitness;
+			this.accessed = accessed;
+		}
+	}
+
+}
@@ -0,0 +1,588 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.engine.MetricsListener.Stage;
+
+/**
+ * Evolution engine which implements the <em>island model</em>. Every island
+ * is an {@link Engine} with its own population, and the islands are evolved
+ * concurrently. Every {@code k} generations, the best individuals of every
+ * island migrate to its neighbour islands, as defined by the migration
+ * {@link Topology}, where they replace the worst individuals.
+ * <p>
+ * The evolution stream of the island engine returns merged evolution
+ * results. The population of an {@code EvolutionResult} is the concatenation
+ * of the island populations, and the counts and durations are the sums of
+ * the island values. Only the {@link EvolutionDurations#getEvolveDuration()}
+ * is the wall-clock time of the whole (concurrent) evolution step.
+ *
+ * [code]
+ * final Engine&lt;DoubleGene, Double&gt; engine = Engine
+ *     .builder(fitness, DoubleChromosome.of(0, 1))
+ *     .executor(Runnable::run)
+ *     .build();
+ *
+ * final Phenotype&lt;DoubleGene, Double&gt; best = IslandEngine
+ *     .builder(engine, 4)
+ *     .migrationInterval(10)
+ *     .migrationCount(2)
+ *     .topology(IslandEngine.Topology.RING)
+ *     .build()
+ *     .stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * [/code]
+ *
+ * Since the islands are already evolved concurrently, it is usually a good
+ * idea to let the island engines run their evolution steps in the calling
+ * thread, as shown in the example above.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * The migration topology of the island model. The topology defines from
+	 * which islands an island receives its immigrants.
+	 */
+	public static enum Topology {
+
+		/**
+		 * The islands form a ring. Every island sends its emigrants to the
+		 * next island.
+		 */
+		RING {
+			@Override
+			IntStream sources(final int island, final int islands) {
+				return IntStream.of((island + islands - 1)%islands)
+					.filter(i -> i != island);
+			}
+		},
+
+		/**
+		 * Every island sends its emigrants to all other islands. An island
+		 * takes the best of all received individuals.
+		 */
+		FULLY_CONNECTED {
+			@Override
+			IntStream sources(final int island, final int islands) {
+				return IntStream.range(0, islands)
+					.filter(i -> i != island);
+			}
+		};
+
+		/**
+		 * Return the indexes of the islands which are sending its emigrants
+		 * to the given {@code island}.
+		 *
+		 * @param island the index of the receiving island
+		 * @param islands the number of islands
+		 * @return the indexes of the sending islands
+		 */
+		abstract IntStream sources(final int island, final int islands);
+
+	}
+
+	private final List<Engine<G, C>> _islands;
+	private final int _migrationInterval;
+	private final int _migrationCount;
+	private final Topology _topology;
+	private final Optimize _optimize;
+	private final Executor _executor;
+
+	/**
+	 * Create a new island engine.
+	 *
+	 * @param islands the island engines
+	 * @param migrationInterval the number of generations between two
+	 *        migrations
+	 * @param migrationCount the number of individuals which migrate to an
+	 *        island
+	 * @param topology the migration topology
+	 * @param executor the executor used for evolving the islands
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code islands} list is empty
+	 *         or the islands have different optimization strategies
+	 */
+	private IslandEngine(
+		final List<Engine<G, C>> islands,
+		final int migrationInterval,
+		final int migrationCount,
+		final Topology topology,
+		final Executor executor
+	) {
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("No island engine given.");
+		}
+		_optimize = islands.get(0).getOptimize();
+		for (Engine<G, C> island : islands) {
+			if (island.getOptimize() != _optimize) {
+				throw new IllegalArgumentException(format(
+					"All islands must have the optimization strategy %s, but found %s.",
+					_optimize, island.getOptimize()
+				));
+			}
+		}
+
+		_islands = Collections.unmodifiableList(new ArrayList<>(islands));
+		_migrationInterval = require.positive(migrationInterval);
+		_migrationCount = require.positive(migrationCount);
+		_topology = requireNonNull(topology);
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Performs one generation step for all islands concurrently.
+	 *
+	 * @param start the evolution start state, with the concatenated island
+	 *        populations
+	 * @return the merged evolution result
+	 */
+	EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final Timer timer = Timer.of().start();
+
+		final List<CompletableFuture<EvolutionResult<G, C>>> futures =
+			new ArrayList<>(_islands.size());
+
+		int offset = 0;
+		for (Engine<G, C> island : _islands) {
+			final int size = island.getPopulationSize();
+			final Population<G, C> population = new Population<>(
+				start.population.subList(offset, offset + size)
+			);
+			offset += size;
+
+			futures.add(CompletableFuture.supplyAsync(
+				() -> island.evolve(population, start.generation),
+				_executor
+			));
+		}
+
+		final List<EvolutionResult<G, C>> results = futures.stream()
+			.map(CompletableFuture::join)
+			.collect(toList());
+
+		final List<Population<G, C>> populations = results.stream()
+			.map(EvolutionResult::getPopulation)
+			.collect(toList());
+
+		if (start.generation%_migrationInterval == 0 && _islands.size() > 1) {
+			migrate(populations);
+		}
+
+		return merge(results, populations, start.generation, timer);
+	}
+
+	// The best individuals of every island replace the worst individuals of
+	// its neighbour islands.
+	private void migrate(final List<Population<G, C>> populations) {
+		final Comparator<C> descending = _optimize.descending();
+		final Comparator<Phenotype<G, C>> best = (a, b) ->
+			descending.compare(a.getFitness(), b.getFitness());
+
+		final List<List<Phenotype<G, C>>> emigrants = populations.stream()
+			.map(pop -> pop.stream()
+				.sorted(best)
+				.limit(_migrationCount)
+				.collect(toList()))
+			.collect(toList());
+
+		for (int i = 0; i < populations.size(); ++i) {
+			final Engine<G, C> island = _islands.get(i);
+			final Population<G, C> population = populations.get(i);
+
+			final List<Phenotype<G, C>> immigrants =
+				_topology.sources(i, populations.size())
+					.mapToObj(emigrants::get)
+					.flatMap(List::stream)
+					.sorted(best)
+					.limit(min(_migrationCount, population.size()))
+					.collect(toList());
+
+			population.sortWith(descending);
+			for (int j = 0; j < immigrants.size(); ++j) {
+				population.set(
+					population.size() - j - 1,
+					immigrant(island, immigrants.get(j))
+				);
+			}
+		}
+	}
+
+	// Replaces the fitness function of the immigrant, if the target island
+	// uses a different one.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Phenotype<G, C> immigrant(
+		final Engine<G, C> island,
+		final Phenotype<G, C> pt
+	) {
+		return pt.getFitnessFunction() == island.getFitnessFunction() &&
+			pt.getFitnessScaler() == island.getFitnessScaler() ?
+				pt :
+				pt.newInstance(
+					pt.getGeneration(),
+					island.getFitnessFunction(),
+					island.getFitnessScaler()
+				);
+	}
+
+	private EvolutionResult<G, C> merge(
+		final List<EvolutionResult<G, C>> results,
+		final List<Population<G, C>> populations,
+		final long generation,
+		final Timer timer
+	) {
+		final Population<G, C> population = new Population<>(
+			populations.stream().mapToInt(Population::size).sum()
+		);
+		populations.forEach(population::addAll);
+
+		final Map<Stage, Duration> waits = new EnumMap<>(Stage.class);
+		for (Stage stage : Stage.values()) {
+			waits.put(stage, sum(results, d -> d.getQueueWait(stage)));
+		}
+
+		final EvolutionDurations durations = EvolutionDurations.of(
+			sum(results, EvolutionDurations::getOffspringSelectionDuration),
+			sum(results, EvolutionDurations::getSurvivorsSelectionDuration),
+			sum(results, EvolutionDurations::getOffspringAlterDuration),
+			sum(results, EvolutionDurations::getOffspringFilterDuration),
+			sum(results, EvolutionDurations::getSurvivorFilterDuration),
+			sum(results, EvolutionDurations::getEvaluationDuration),
+			timer.stop().getTime(),
+			waits
+		);
+
+		return EvolutionResult.of(
+			_optimize,
+			population,
+			generation,
+			generation,
+			durations,
+			results.stream().mapToInt(EvolutionResult::getKillCount).sum(),
+			results.stream().mapToInt(EvolutionResult::getInvalidCount).sum(),
+			results.stream().mapToInt(EvolutionResult::getAlterCount).sum(),
+			results.stream().mapToInt(EvolutionResult::getCacheHitCount).sum(),
+			results.stream().mapToInt(EvolutionResult::getCacheMissCount).sum(),
+			results.stream().mapToInt(EvolutionResult::getRepairCount).sum()
+		);
+	}
+
+	private static Duration sum(
+		final List<? extends EvolutionResult<?, ?>> results,
+		final Function<EvolutionDurations, Duration> duration
+	) {
+		return results.stream()
+			.map(r -> duration.apply(r.getDurations()))
+			.reduce(Duration.ZERO, Duration::plus);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator with newly created
+	 * island populations.
+	 *
+	 * @return a new <b>infinite</b> evolution iterator
+	 */
+	public Iterator<EvolutionResult<G, C>> iterator() {
+		return new EvolutionIterator<>(
+			this::evolve,
+			this::evolutionStart
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream with newly created
+	 * island populations.
+	 *
+	 * @return a new evolution stream.
+	 */
+	public EvolutionStream<G, C> stream() {
+		return new EvolutionStreamImpl<>(
+			this::evolve,
+			this::evolutionStart
+		);
+	}
+
+	// Creates and evaluates the initial island populations concurrently.
+	private EvolutionStart<G, C> evolutionStart() {
+		final List<CompletableFuture<EvolutionStart<G, C>>> starts =
+			_islands.stream()
+				.map(island -> CompletableFuture.supplyAsync(
+					island::evolutionStart,
+					_executor
+				))
+				.collect(toList());
+
+		final Population<G, C> population = new Population<>(
+			getPopulationSize()
+		);
+		starts.forEach(start -> population.addAll(start.join().population));
+
+		return new EvolutionStart<>(population, 1);
+	}
+
+
+	/* *************************************************************************
+	 * Property access methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the island engines.
+	 *
+	 * @return the island engines
+	 */
+	public List<Engine<G, C>> getIslands() {
+		return _islands;
+	}
+
+	/**
+	 * Return the number of generations between two migrations.
+	 *
+	 * @return the number of generations between two migrations
+	 */
+	public int getMigrationInterval() {
+		return _migrationInterval;
+	}
+
+	/**
+	 * Return the maximal number of individuals which migrate to an island.
+	 *
+	 * @return the maximal number of individuals which migrate to an island
+	 */
+	public int getMigrationCount() {
+		return _migrationCount;
+	}
+
+	/**
+	 * Return the migration topology.
+	 *
+	 * @return the migration topology
+	 */
+	public Topology getTopology() {
+		return _topology;
+	}
+
+	/**
+	 * Return the optimization strategy of the island engines.
+	 *
+	 * @return the optimization strategy
+	 */
+	public Optimize getOptimize() {
+		return _optimize;
+	}
+
+	/**
+	 * Return the size of the merged population, which is the sum of the
+	 * island population sizes.
+	 *
+	 * @return the size of the merged population
+	 */
+	public int getPopulationSize() {
+		return _islands.stream().mapToInt(Engine::getPopulationSize).sum();
+	}
+
+
+	/* *************************************************************************
+	 * Builder methods.
+	 **************************************************************************/
+
+	/**
+	 * Create a new island engine builder, where every island uses the given
+	 * {@code engine}.
+	 *
+	 * @param engine the engine used for every island
+	 * @param islands the number of islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if the given {@code engine} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code islands < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C> engine, final int islands) {
+		requireNonNull(engine);
+		require.positive(islands);
+
+		return new Builder<>(Collections.nCopies(islands, engine));
+	}
+
+	/**
+	 * Create a new island engine builder with the given island engines. All
+	 * engines must have the same optimization strategy.
+	 *
+	 * @param islands the island engines
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if one of the engines is {@code null}
+	 * @throws IllegalArgumentException if the given {@code islands} list is
+	 *         empty
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final List<Engine<G, C>> islands) {
+		islands.forEach(Objects::requireNonNull);
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("No island engine given.");
+		}
+
+		return new Builder<>(islands);
+	}
+
+
+	/* *************************************************************************
+	 * Inner classes
+	 **************************************************************************/
+
+	/**
+	 * Builder class for building island engines.
+	 *
+	 * @see IslandEngine
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.0
+	 * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final List<Engine<G, C>> _islands;
+
+		// This are the properties which default values.
+		private int _migrationInterval = 10;
+		private int _migrationCount = 1;
+		private Topology _topology = Topology.RING;
+		private Executor _executor = ForkJoinPool.commonPool();
+
+		private Builder(final List<Engine<G, C>> islands) {
+			_islands = new ArrayList<>(islands);
+		}
+
+		/**
+		 * The number of generations between two migrations. <i>Default
+		 * value is set to {@code 10}.</i>
+		 *
+		 * @param interval the number of generations between two migrations
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code interval < 1}
+		 */
+		public Builder<G, C> migrationInterval(final int interval) {
+			_migrationInterval = require.positive(interval);
+			return this;
+		}
+
+		/**
+		 * The maximal number of individuals which migrate to an island, where
+		 * they replace the worst individuals. <i>Default value is set to
+		 * {@code 1}.</i>
+		 *
+		 * @param count the number of migrating individuals
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code count < 1}
+		 */
+		public Builder<G, C> migrationCount(final int count) {
+			_migrationCount = require.positive(count);
+			return this;
+		}
+
+		/**
+		 * The migration topology. <i>Default value is set to
+		 * {@code Topology.RING}.</i>
+		 *
+		 * @param topology the migration topology
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> topology(final Topology topology) {
+			_topology = requireNonNull(topology);
+			return this;
+		}
+
+		/**
+		 * The executor used for evolving the islands concurrently.
+		 * <i>Default value is set to {@link ForkJoinPool#commonPool()}.</i>
+		 *
+		 * @param executor the executor used for evolving the islands
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Builds an new {@code IslandEngine} instance from the set properties.
+		 *
+		 * @return an new {@code IslandEngine} instance from the set properties
+		 * @throws IllegalArgumentException if the islands have different
+		 *         optimization strategies
+		 */
+		public IslandEngine<G, C> build() {
+			return new IslandEngine<>(
+				_islands,
+				_migrationInterval,
+				_migrationCount,
+				_topology,
+				_executor
+			);
+		}
+
+	}
+
+}
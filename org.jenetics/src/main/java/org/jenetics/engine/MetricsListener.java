@@ -0,0 +1,246 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.time.Duration;
+
+import org.jenetics.Alterer;
+import org.jenetics.Selector;
+import org.jenetics.stat.LongMomentStatistics;
+
+/**
+ * Listener interface for the fine grained performance metrics of an evolution
+ * {@link Engine}. The listener is registered with the
+ * {@link Engine.Builder#metricsListener(MetricsListener)} method and receives
+ * the metrics of every evolution step, which allows to find hot spots without
+ * attaching a profiler. If no listener is registered, the metrics are not
+ * calculated at all.
+ * <p>
+ * All methods have an empty default implementation, so only the needed
+ * metrics must be implemented. The methods are called concurrently by the
+ * threads of the engine executor; the implementation <em>must</em> be
+ * thread-safe and should return quickly.
+ *
+ * [code]
+ * final LongAdder allocated = new LongAdder();
+ * final Engine&lt;DoubleGene, Double&gt; engine = Engine.builder(ff, gtf)
+ *     .metricsListener(new MetricsListener() {
+ *         &#64;Override
+ *         public void allocated(final long generation, final int count) {
+ *             allocated.add(count);
+ *         }
+ *     })
+ *     .build();
+ * [/code]
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public interface MetricsListener {
+
+	/**
+	 * The evolution stages which are executed as separate tasks by the
+	 * engine executor, and the fitness evaluation, which is executed by the
+	 * evaluation executor.
+	 *
+	 * @see Engine.Builder#executor(java.util.concurrent.Executor)
+	 * @see Engine.Builder#evaluationExecutor(java.util.concurrent.Executor)
+	 */
+	public static enum Stage {
+
+		/**
+		 * Selection of the offspring population.
+		 */
+		OFFSPRING_SELECTION,
+
+		/**
+		 * Selection of the survivors population.
+		 */
+		SURVIVORS_SELECTION,
+
+		/**
+		 * Altering of the offspring population.
+		 */
+		OFFSPRING_ALTER,
+
+		/**
+		 * Filtering of the invalid and too old offspring individuals.
+		 */
+		OFFSPRING_FILTER,
+
+		/**
+		 * Filtering of the invalid and too old survivor individuals.
+		 */
+		SURVIVORS_FILTER,
+
+		/**
+		 * Fitness evaluation of the new individuals.
+		 */
+		EVALUATION
+
+	}
+
+	/**
+	 * Called when the task of the given evolution {@code stage} is started by
+	 * the engine executor. For the {@link Stage#EVALUATION} stage, this
+	 * method is called after the evaluation has finished, with the time until
+	 * the first fitness evaluation has been started by the evaluation
+	 * executor.
+	 *
+	 * @param generation the current generation
+	 * @param stage the started evolution stage
+	 * @param wait the time the task has been waiting in the queue of the
+	 *        executor, after it became ready for execution
+	 */
+	public default void queued(
+		final long generation,
+		final Stage stage,
+		final Duration wait
+	) {
+	}
+
+	/**
+	 * Called after a selector has selected the individuals of a population.
+	 *
+	 * @param generation the current generation
+	 * @param stage the selection stage, either
+	 *        {@link Stage#OFFSPRING_SELECTION} or
+	 *        {@link Stage#SURVIVORS_SELECTION}
+	 * @param selector the used selector
+	 * @param count the number of selected individuals
+	 * @param duration the selection time
+	 */
+	public default void selected(
+		final long generation,
+		final Stage stage,
+		final Selector<?, ?> selector,
+		final int count,
+		final Duration duration
+	) {
+	}
+
+	/**
+	 * Called after a single alterer has altered the offspring population.
+	 * For composed alterers, this method is called for every alterer the
+	 * composition consists of.
+	 *
+	 * @param generation the current generation
+	 * @param alterer the (single) alterer
+	 * @param alterCount the number of genes altered by the alterer
+	 * @param duration the time used by the alterer
+	 */
+	public default void altered(
+		final long generation,
+		final Alterer<?, ?> alterer,
+		final int alterCount,
+		final Duration duration
+	) {
+	}
+
+	/**
+	 * Called after one evaluation of the fitness function. The distribution
+	 * of the evaluation times can be collected from this calls.
+	 *
+	 * @param generation the current generation
+	 * @param count the number of individuals evaluated by the call; greater
+	 *        than one for batch fitness functions
+	 * @param duration the evaluation time
+	 */
+	public default void evaluated(
+		final long generation,
+		final int count,
+		final Duration duration
+	) {
+	}
+
+	/**
+	 * Called after the fitness values of a generation have been evaluated,
+	 * with the execution time statistics of the chunks the evaluation tasks
+	 * were split into. Only called if the evaluations were executed in
+	 * chunks, which is not the case for batch and asynchronous fitness
+	 * functions, for cancellable evaluations and for the serial executor.
+	 *
+	 * @param generation the current generation
+	 * @param chunks the execution times of the chunks, in nanoseconds. The
+	 *        number of chunks is given by the
+	 *        {@link LongMomentStatistics#getCount()} method.
+	 */
+	public default void chunked(
+		final long generation,
+		final LongMomentStatistics chunks
+	) {
+	}
+
+	/**
+	 * Called after the fitness cache has been queried for the not evaluated
+	 * individuals of a generation. Only called if the engine uses a fitness
+	 * cache.
+	 *
+	 * @param generation the current generation
+	 * @param hits the number of fitness values taken from the cache
+	 * @param misses the number of fitness values not found in the cache
+	 */
+	public default void cached(
+		final long generation,
+		final int hits,
+		final int misses
+	) {
+	}
+
+	/**
+	 * Called with the number of evaluations of a generation which have been
+	 * cancelled, because of the evaluation timeout or the evaluation
+	 * deadline of the engine. Only called if at least one evaluation has
+	 * been cancelled.
+	 *
+	 * @see Engine.Builder#evaluationTimeout(Duration)
+	 * @see Engine.Builder#evaluationDeadline(Duration)
+	 *
+	 * @param generation the current generation
+	 * @param count the number of cancelled evaluations
+	 */
+	public default void timedOut(final long generation, final int count) {
+	}
+
+	/**
+	 * Called with the number of individuals of the resulting population,
+	 * which have been newly allocated during the evolution step. This are the
+	 * altered, the evaluated and the replaced individuals.
+	 *
+	 * @param generation the current generation
+	 * @param count the number of newly allocated individuals
+	 */
+	public default void allocated(final long generation, final int count) {
+	}
+
+	/**
+	 * Called after the evolution step of the given generation has finished.
+	 *
+	 * @param generation the finished generation
+	 * @param durations the durations of the evolution stages
+	 */
+	public default void evolved(
+		final long generation,
+		final EvolutionDurations durations
+	) {
+	}
+
+}
@@ -0,0 +1,280 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+import org.jenetics.internal.math.random;
+import org.jenetics.internal.util.Concurrency;
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Runs a number of independent evolution streams, created from the same
+ * {@link Engine} configuration, concurrently. Every run uses its own random
+ * engine, which is the {@code i}<sup>th</sup> sub-stream of a
+ * {@link LCG64ShiftRandom}, <i>split</i> into {@code runs} sub-streams. The
+ * whole evolution of a run is performed within one thread: the executor of
+ * the engine is replaced by one which executes the evolution steps in the
+ * calling thread. The parallelism is given by the concurrently executed runs.
+ * So the results of a multi-start are reproducible for a given seed.
+ * <p>
+ * The following example returns the best result of 16 independent runs:
+ * [code]
+ * final EvolutionResult&lt;DoubleGene, Double&gt; best = MultiStart
+ *     .builder(engine, 16)
+ *     .seed(123)
+ *     .build()
+ *     .run(
+ *         stream -&gt; stream.limit(100).collect(toBestEvolutionResult()),
+ *         toBestEvolutionResult()
+ *     );
+ * [/code]
+ *
+ * The evolution statistics of every single run can be collected as follows:
+ * [code]
+ * final List&lt;EvolutionStatistics&lt;Double, DoubleMomentStatistics&gt;&gt; statistics =
+ *     multiStart.run(stream -&gt; {
+ *         final EvolutionStatistics&lt;Double, DoubleMomentStatistics&gt;
+ *             s = EvolutionStatistics.ofNumber();
+ *         stream.limit(100).forEach(s);
+ *         return s;
+ *     });
+ * [/code]
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class MultiStart<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final Engine<G, C> _engine;
+	private final int _runs;
+	private final long _seed;
+	private final Executor _executor;
+
+	/**
+	 * Create a new multi-start object.
+	 *
+	 * @param engine the engine, which executes the evolution steps in the
+	 *        calling thread
+	 * @param runs the number of independent runs
+	 * @param seed the seed of the random engine, which is split into the
+	 *        random engines of the single runs
+	 * @param executor the executor used for executing the runs
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code runs < 1}
+	 */
+	private MultiStart(
+		final Engine<G, C> engine,
+		final int runs,
+		final long seed,
+		final Executor executor
+	) {
+		_engine = requireNonNull(engine);
+		_runs = require.positive(runs);
+		_seed = seed;
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Executes the given {@code run} function for every run concurrently.
+	 * The function is called with a new evolution stream and must perform
+	 * the whole evolution of the run, e.g. by collecting the stream. The
+	 * evolution stream must not be consumed after the function returns.
+	 *
+	 * @param run the function which performs the evolution of one run
+	 * @param <R> the result type of the single runs
+	 * @return the results of the runs, in the order of the runs
+	 * @throws NullPointerException if the given {@code run} function is
+	 *         {@code null}
+	 */
+	public <R> List<R> run(
+		final Function<? super EvolutionStream<G, C>, ? extends R> run
+	) {
+		requireNonNull(run);
+
+		final List<CompletableFuture<R>> results = new ArrayList<>(_runs);
+		for (int i = 0; i < _runs; ++i) {
+			final LCG64ShiftRandom random = new LCG64ShiftRandom(_seed);
+			random.split(_runs, i);
+
+			results.add(CompletableFuture.supplyAsync(
+				() -> RandomRegistry.with(random, r -> run.apply(_engine.stream())),
+				_executor
+			));
+		}
+
+		return results.stream()
+			.map(CompletableFuture::join)
+			.collect(toList());
+	}
+
+	/**
+	 * Executes the given {@code run} function for every run concurrently and
+	 * merges the run results with the given {@code collector}.
+	 *
+	 * @see #run(Function)
+	 *
+	 * @param run the function which performs the evolution of one run
+	 * @param collector the collector which merges the results of the runs
+	 * @param <R> the result type of the single runs
+	 * @param <T> the type of the merged result
+	 * @return the merged result of all runs
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public <R, T> T run(
+		final Function<? super EvolutionStream<G, C>, ? extends R> run,
+		final Collector<? super R, ?, T> collector
+	) {
+		requireNonNull(collector);
+		return run(run).stream().collect(collector);
+	}
+
+	/**
+	 * Return the number of independent runs.
+	 *
+	 * @return the number of independent runs
+	 */
+	public int getRuns() {
+		return _runs;
+	}
+
+	/**
+	 * Return the seed of the random engine, which is split into the random
+	 * engines of the single runs.
+	 *
+	 * @return the random seed
+	 */
+	public long getSeed() {
+		return _seed;
+	}
+
+	/**
+	 * Create a new multi-start builder.
+	 *
+	 * @param engine the engine configuration used for every run
+	 * @param runs the number of independent runs
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new multi-start builder
+	 * @throws NullPointerException if the given {@code engine} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code runs < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C> engine, final int runs) {
+		return new Builder<>(engine, runs);
+	}
+
+
+	/* *************************************************************************
+	 * Inner classes
+	 **************************************************************************/
+
+	/**
+	 * Builder class for building multi-start objects.
+	 *
+	 * @see MultiStart
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.0
+	 * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Engine<G, C> _engine;
+		private final int _runs;
+
+		// This are the properties which default values.
+		private long _seed = random.seed();
+		private Executor _executor = ForkJoinPool.commonPool();
+
+		private Builder(final Engine<G, C> engine, final int runs) {
+			_engine = requireNonNull(engine);
+			_runs = require.positive(runs);
+		}
+
+		/**
+		 * The seed of the random engine, which is split into the random
+		 * engines of the single runs. <i>Default value is a randomly
+		 * created seed.</i>
+		 *
+		 * @param seed the random seed
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> seed(final long seed) {
+			_seed = seed;
+			return this;
+		}
+
+		/**
+		 * The executor used for executing the runs concurrently. <i>Default
+		 * value is set to {@link ForkJoinPool#commonPool()}.</i>
+		 *
+		 * @param executor the executor used for executing the runs
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Builds an new {@code MultiStart} instance from the set properties.
+		 *
+		 * @return an new {@code MultiStart} instance from the set properties
+		 */
+		public MultiStart<G, C> build() {
+			return new MultiStart<>(
+				_engine.builder().executor(Concurrency.SERIAL_EXECUTOR).build(),
+				_runs,
+				_seed,
+				_executor
+			);
+		}
+
+	}
+
+}
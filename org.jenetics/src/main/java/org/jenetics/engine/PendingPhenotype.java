@@ -0,0 +1,91 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.jenetics.Gene;
+import org.jenetics.Phenotype;
+
+/**
+ * A phenotype whose fitness evaluation has been started, but which has not
+ * been finished at the end of the evolution step, in pipelined evolution
+ * mode.
+ *
+ * @see Engine.Builder#pipelined(int)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class PendingPhenotype<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	final Phenotype<G, C> phenotype;
+	final CompletableFuture<Phenotype<G, C>> evaluation;
+	final long generation;
+
+	/**
+	 * Create a new pending phenotype.
+	 *
+	 * @param phenotype the phenotype which is evaluated
+	 * @param evaluation the running evaluation of the {@code phenotype}
+	 * @param generation the generation the evaluation has been started
+	 */
+	PendingPhenotype(
+		final Phenotype<G, C> phenotype,
+		final CompletableFuture<Phenotype<G, C>> evaluation,
+		final long generation
+	) {
+		this.phenotype = requireNonNull(phenotype);
+		this.evaluation = requireNonNull(evaluation);
+		this.generation = generation;
+	}
+
+	/**
+	 * Test whether the evaluation of the phenotype must be waited for, in the
+	 * given {@code generation}.
+	 *
+	 * @param generation the current generation
+	 * @param staleness the maximal number of generations an evaluation is
+	 *        allowed to be pending
+	 * @return {@code true} if the evaluation is done or the maximal allowed
+	 *         staleness has been reached
+	 */
+	boolean isReady(final long generation, final int staleness) {
+		return evaluation.isDone() || generation - this.generation >= staleness;
+	}
+
+	/**
+	 * Cancels the evaluation of the phenotype. A running evaluation is
+	 * interrupted.
+	 */
+	void cancel() {
+		evaluation.cancel(true);
+	}
+
+}
@@ -0,0 +1,644 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jenetics.internal.util.require;
+
+import org.jenetics.Gene;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * Evolution engine which implements a <em>steady-state</em> genetic
+ * algorithm. Instead of creating a whole new generation in every evolution
+ * step, every step selects two parents, with the offspring selector of the
+ * underlying {@link Engine}, alters and evaluates them, and inserts the
+ * resulting offspring into the existing population. The individuals which
+ * are replaced are chosen by the {@link Replacement} policy.
+ * <p>
+ * The steps are performed by a number of long-lived workers, which are
+ * inserting their offspring into one population, shared by all workers of an
+ * evolution stream. The fitness function is evaluated outside of the
+ * population lock, so the workers are only synchronized for selecting the
+ * parents and inserting the offspring. Every {@code k} insertions, a snapshot
+ * of the population is published as {@code EvolutionResult}, without
+ * stopping the workers; the <em>generation</em> of the result is the number
+ * of published results. The workers only pause if the consumer of the
+ * stream falls behind by more than a few results, and they are resumed as
+ * soon as the next result is consumed.
+ *
+ * [code]
+ * final Phenotype&lt;DoubleGene, Double&gt; best = SteadyStateEngine
+ *     .builder(engine)
+ *     .replacement(SteadyStateEngine.Replacement.WORST)
+ *     .reportInterval(10)
+ *     .build()
+ *     .stream()
+ *     .limit(1000)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * [/code]
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class SteadyStateEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * The replacement policy, which defines the individual of the population
+	 * which is replaced by a newly created offspring.
+	 */
+	public static enum Replacement {
+
+		/**
+		 * The worst individual of the population is replaced.
+		 */
+		WORST {
+			@Override
+			<C extends Comparable<? super C>> int index(
+				final Population<?, C> population,
+				final Optimize optimize
+			) {
+				int index = 0;
+				for (int i = 1, n = population.size(); i < n; ++i) {
+					if (optimize.compare(
+							population.get(i).getFitness(),
+							population.get(index).getFitness()) < 0)
+					{
+						index = i;
+					}
+				}
+				return index;
+			}
+		},
+
+		/**
+		 * The oldest individual of the population is replaced.
+		 */
+		OLDEST {
+			@Override
+			<C extends Comparable<? super C>> int index(
+				final Population<?, C> population,
+				final Optimize optimize
+			) {
+				int index = 0;
+				for (int i = 1, n = population.size(); i < n; ++i) {
+					if (population.get(i).getGeneration() <
+						population.get(index).getGeneration())
+					{
+						index = i;
+					}
+				}
+				return index;
+			}
+		},
+
+		/**
+		 * A randomly chosen individual of the population is replaced.
+		 */
+		RANDOM {
+			@Override
+			<C extends Comparable<? super C>> int index(
+				final Population<?, C> population,
+				final Optimize optimize
+			) {
+				final Random random = RandomRegistry.getRandom();
+				return random.nextInt(population.size());
+			}
+		};
+
+		/**
+		 * Return the index of the individual which is replaced.
+		 *
+		 * @param population the population, which must not be empty
+		 * @param optimize the optimization strategy
+		 * @param <C> the fitness type
+		 * @return the index of the individual which is replaced
+		 */
+		abstract <C extends Comparable<? super C>> int index(
+			final Population<?, C> population,
+			final Optimize optimize
+		);
+
+	}
+
+	// The number of parents selected in every steady-state step.
+	private static final int PARENTS = 2;
+
+	// The workers are paused, if this number of published results are
+	// waiting for being consumed.
+	static final int MAX_QUEUED_RESULTS = 2;
+
+	// A worker fails, if it couldn't create a valid offspring in this number
+	// of consecutive steps.
+	static final int MAX_INVALID_STEPS = 1000;
+
+	private final Engine<G, C> _engine;
+	private final Replacement _replacement;
+	private final int _reportInterval;
+	private final int _workers;
+	private final Executor _executor;
+
+	/**
+	 * Create a new steady-state engine.
+	 *
+	 * @param engine the engine which defines the fitness function, the
+	 *        offspring selector and the alterer
+	 * @param replacement the replacement policy
+	 * @param reportInterval the number of offspring insertions between two
+	 *        emitted evolution results
+	 * @param workers the number of concurrently running workers
+	 * @param executor the executor the workers are running on
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code reportInterval} or
+	 *         {@code workers} is smaller than one
+	 */
+	private SteadyStateEngine(
+		final Engine<G, C> engine,
+		final Replacement replacement,
+		final int reportInterval,
+		final int workers,
+		final Executor executor
+	) {
+		_engine = requireNonNull(engine);
+		_replacement = requireNonNull(replacement);
+		_reportInterval = require.positive(reportInterval);
+		_workers = require.positive(workers);
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution iterator with a newly created
+	 * population.
+	 *
+	 * @return a new <b>infinite</b> evolution iterator
+	 */
+	public Iterator<EvolutionResult<G, C>> iterator() {
+		return new EvolutionIterator<>(
+			new Evolution(),
+			_engine::evolutionStart
+		);
+	}
+
+	/**
+	 * Create a new <b>infinite</b> evolution stream with a newly created
+	 * population.
+	 *
+	 * @return a new evolution stream.
+	 */
+	public EvolutionStream<G, C> stream() {
+		return new EvolutionStreamImpl<>(
+			new Evolution(),
+			_engine::evolutionStart
+		);
+	}
+
+
+	/* *************************************************************************
+	 * Property access methods.
+	 **************************************************************************/
+
+	/**
+	 * Return the engine which defines the fitness function, the offspring
+	 * selector and the alterer of the steady-state steps.
+	 *
+	 * @return the underlying engine
+	 */
+	public Engine<G, C> getEngine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the replacement policy.
+	 *
+	 * @return the replacement policy
+	 */
+	public Replacement getReplacement() {
+		return _replacement;
+	}
+
+	/**
+	 * Return the number of offspring insertions between two emitted
+	 * evolution results.
+	 *
+	 * @return the number of insertions between two evolution results
+	 */
+	public int getReportInterval() {
+		return _reportInterval;
+	}
+
+	/**
+	 * Return the number of concurrently running workers.
+	 *
+	 * @return the number of concurrently running workers
+	 */
+	public int getWorkers() {
+		return _workers;
+	}
+
+
+	/* *************************************************************************
+	 * Builder methods.
+	 **************************************************************************/
+
+	/**
+	 * Create a new steady-state engine builder. The fitness function, the
+	 * offspring selector, the alterer and the initial population are taken
+	 * from the given {@code engine}.
+	 *
+	 * @param engine the underlying engine
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new steady-state engine builder
+	 * @throws NullPointerException if the given {@code engine} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C> engine) {
+		return new Builder<>(engine);
+	}
+
+
+	/* *************************************************************************
+	 * Inner classes
+	 **************************************************************************/
+
+	/**
+	 * The evolution function of one evolution stream. The workers are started
+	 * with the first requested result and keep running while the following
+	 * results are requested. If the requested start state is not the last
+	 * returned result, the running workers are stopped and new ones are
+	 * started from the given state.
+	 */
+	private final class Evolution
+		implements Function<EvolutionStart<G, C>, EvolutionResult<G, C>>
+	{
+		private Run _run;
+		private Population<G, C> _last;
+
+		@Override
+		public synchronized EvolutionResult<G, C>
+		apply(final EvolutionStart<G, C> start) {
+			if (_run == null || start.population != _last) {
+				if (_run != null) {
+					_run.stop();
+				}
+				_run = new Run(start);
+			}
+
+			final EvolutionResult<G, C> result = _run.next();
+			_last = result.getPopulation();
+			return result;
+		}
+	}
+
+	/**
+	 * The population and the workers of one running steady-state evolution.
+	 * Every worker performs steady-state steps, until the run is stopped or
+	 * more than {@code MAX_QUEUED_RESULTS} results are waiting for being
+	 * consumed. The evaluated offspring of a step are always inserted.
+	 */
+	private final class Run implements Runnable {
+		private final Optimize _optimize = _engine.getOptimize();
+		private final Population<G, C> _population;
+
+		// Published results and worker failures, in publishing order.
+		private final BlockingQueue<Object> _results = new LinkedBlockingQueue<>();
+		private final AtomicInteger _running = new AtomicInteger();
+		private volatile boolean _stopped = false;
+
+		// Guarded by the population lock.
+		private long _generation;
+		private int _insertions = 0;
+		private long _started = System.nanoTime();
+
+		// Metrics of the current report interval.
+		private final LongAdder _invalidCount = new LongAdder();
+		private final LongAdder _repairCount = new LongAdder();
+		private final LongAdder _alterCount = new LongAdder();
+		private final LongAdder _selection = new LongAdder();
+		private final LongAdder _alter = new LongAdder();
+		private final LongAdder _evaluation = new LongAdder();
+
+		Run(final EvolutionStart<G, C> start) {
+			_population = start.population.copy();
+			_generation = start.generation;
+		}
+
+		// Returns the next published result, and resumes the paused workers.
+		EvolutionResult<G, C> next() {
+			resume();
+
+			final Object next;
+			try {
+				next = _results.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException(e.getMessage());
+			}
+
+			if (next instanceof Throwable) {
+				_results.add(next);
+				throw rethrow((Throwable)next);
+			}
+
+			resume();
+
+			@SuppressWarnings("unchecked")
+			final EvolutionResult<G, C> result = (EvolutionResult<G, C>)next;
+			return result;
+		}
+
+		void stop() {
+			_stopped = true;
+		}
+
+		private boolean isPaused() {
+			return _stopped || _results.size() >= MAX_QUEUED_RESULTS;
+		}
+
+		// Starts workers, up to the configured number of workers.
+		private void resume() {
+			while (!isPaused() && reserve()) {
+				_executor.execute(this);
+			}
+		}
+
+		private boolean reserve() {
+			int running = _running.get();
+			while (running < _workers) {
+				if (_running.compareAndSet(running, running + 1)) {
+					return true;
+				}
+				running = _running.get();
+			}
+			return false;
+		}
+
+		@Override
+		public void run() {
+			try {
+				int invalidSteps = 0;
+				do {
+					while (!isPaused()) {
+						if (step()) {
+							invalidSteps = 0;
+						} else if (++invalidSteps >= MAX_INVALID_STEPS) {
+							throw new IllegalStateException(format(
+								"No valid offspring created in %d " +
+								"consecutive steady-state steps.",
+								invalidSteps
+							));
+						}
+					}
+					_running.decrementAndGet();
+
+				// The consumer may have taken a result after the last check.
+				} while (!isPaused() && reserve());
+			} catch (Throwable e) {
+				_stopped = true;
+				_running.decrementAndGet();
+				_results.add(e);
+			}
+		}
+
+		// Performs one steady-state step and returns false, if no valid
+		// offspring has been created.
+		private boolean step() {
+			final long generation;
+			final Population<G, C> offspring;
+
+			long start = System.nanoTime();
+			synchronized (_population) {
+				generation = _generation;
+				offspring = _engine.getOffspringSelector()
+					.select(_population, PARENTS, _optimize);
+			}
+			_selection.add(System.nanoTime() - start);
+
+			start = System.nanoTime();
+			_alterCount.add(_engine.getAlterer().alter(offspring, generation));
+			_alter.add(System.nanoTime() - start);
+
+			// Invalid offspring are repaired, if possible, or discarded.
+			final Population<G, C> valid = new Population<>(offspring.size());
+			for (Phenotype<G, C> pt : offspring) {
+				if (pt.isValid()) {
+					valid.add(pt);
+				} else {
+					_invalidCount.increment();
+
+					final Phenotype<G, C> repaired = _engine.repair(pt);
+					if (repaired != null) {
+						valid.add(repaired);
+						_repairCount.increment();
+					}
+				}
+			}
+
+			start = System.nanoTime();
+			for (Phenotype<G, C> pt : valid) {
+				pt.evaluate();
+			}
+			_evaluation.add(System.nanoTime() - start);
+
+			synchronized (_population) {
+				for (Phenotype<G, C> pt : valid) {
+					_population.set(
+						_replacement.index(_population, _optimize),
+						pt
+					);
+					if (++_insertions%_reportInterval == 0) {
+						publish();
+					}
+				}
+			}
+
+			return !valid.isEmpty();
+		}
+
+		// Publishes a snapshot of the population. Must be called with the
+		// population lock held.
+		private void publish() {
+			final long now = System.nanoTime();
+			final EvolutionDurations durations = EvolutionDurations.of(
+				Duration.ofNanos(_selection.sumThenReset()),
+				Duration.ZERO,
+				Duration.ofNanos(_alter.sumThenReset()),
+				Duration.ZERO,
+				Duration.ZERO,
+				Duration.ofNanos(_evaluation.sumThenReset()),
+				Duration.ofNanos(now - _started)
+			);
+			_started = now;
+
+			_results.add(EvolutionResult.of(
+				_optimize,
+				_population.copy(),
+				_generation,
+				_generation,
+				durations,
+				0,
+				(int)_invalidCount.sumThenReset(),
+				(int)_alterCount.sumThenReset(),
+				0,
+				0,
+				(int)_repairCount.sumThenReset()
+			));
+			++_generation;
+		}
+	}
+
+	private static RuntimeException rethrow(final Throwable cause) {
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException)cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error)cause;
+		}
+		throw new CompletionException(cause);
+	}
+
+	/**
+	 * Builder class for building steady-state engines.
+	 *
+	 * @see SteadyStateEngine
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+	 * @since 3.0
+	 * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Engine<G, C> _engine;
+
+		// This are the properties which default values.
+		private Replacement _replacement = Replacement.WORST;
+		private int _reportInterval;
+		private int _workers = Runtime.getRuntime().availableProcessors();
+		private Executor _executor = ForkJoinPool.commonPool();
+
+		private Builder(final Engine<G, C> engine) {
+			_engine = requireNonNull(engine);
+			_reportInterval = engine.getPopulationSize();
+		}
+
+		/**
+		 * The replacement policy. <i>Default value is set to
+		 * {@code Replacement.WORST}.</i>
+		 *
+		 * @param replacement the replacement policy
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> replacement(final Replacement replacement) {
+			_replacement = requireNonNull(replacement);
+			return this;
+		}
+
+		/**
+		 * The number of offspring insertions between two emitted evolution
+		 * results. Every emitted result copies the population, so small
+		 * intervals are only useful for small populations. <i>Default value
+		 * is set to the population size of the underlying engine.</i>
+		 *
+		 * @param interval the number of insertions between two results
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code interval < 1}
+		 */
+		public Builder<G, C> reportInterval(final int interval) {
+			_reportInterval = require.positive(interval);
+			return this;
+		}
+
+		/**
+		 * The number of concurrently running workers. <i>Default value is
+		 * set to the number of available processors.</i>
+		 *
+		 * @param workers the number of concurrently running workers
+		 * @return {@code this} builder, for command chaining
+		 * @throws java.lang.IllegalArgumentException if {@code workers < 1}
+		 */
+		public Builder<G, C> workers(final int workers) {
+			_workers = require.positive(workers);
+			return this;
+		}
+
+		/**
+		 * The executor the workers are running on. <i>Default value is set
+		 * to {@link ForkJoinPool#commonPool()}.</i>
+		 *
+		 * @param executor the executor the workers are running on
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Builds an new {@code SteadyStateEngine} instance from the set
+		 * properties.
+		 *
+		 * @return an new {@code SteadyStateEngine} instance from the set
+		 *         properties
+		 */
+		public SteadyStateEngine<G, C> build() {
+			return new SteadyStateEngine<>(
+				_engine,
+				_replacement,
+				_reportInterval,
+				_workers,
+				_executor
+			);
+		}
+
+	}
+
+}
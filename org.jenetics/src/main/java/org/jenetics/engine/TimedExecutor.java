@@ -23,8 +23,11 @@ import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -55,6 +58,58 @@ final class TimedExecutor {
 		return result.thenApplyAsync(TimedResult.of(function, clock), _executor);
 	}
 
+	// Executes the given supplier and reports the time the task has been
+	// waiting in the executor queue; no waiting time is measured if the given
+	// 'queued' consumer is null.
+	public <T> CompletableFuture<TimedResult<T>> async(
+		final Supplier<T> supplier,
+		final Clock clock,
+		final Consumer<? super Duration> queued
+	) {
+		if (queued == null) {
+			return async(supplier, clock);
+		}
+
+		final Supplier<TimedResult<T>> timed = TimedResult.of(supplier, clock);
+		final Instant submitted = clock.instant();
+		return supplyAsync(() -> {
+			queued.accept(Duration.between(submitted, clock.instant()));
+			return timed.get();
+		}, _executor);
+	}
+
+	// Applies the given function and reports the time the task has been
+	// waiting in the executor queue, after the given 'result' was completed.
+	public <U, T> CompletableFuture<TimedResult<T>> thenApply(
+		final CompletableFuture<U> result,
+		final Function<U, T> function,
+		final Clock clock,
+		final Consumer<? super Duration> queued
+	) {
+		if (queued == null) {
+			return thenApply(result, function, clock);
+		}
+
+		final Function<U, TimedResult<T>> timed = TimedResult.of(function, clock);
+		return result
+			.thenApply(value -> new Submitted<>(value, clock.instant()))
+			.thenApplyAsync(value -> {
+				queued.accept(Duration.between(value.time, clock.instant()));
+				return timed.apply(value.value);
+			}, _executor);
+	}
+
+	// A value together with the time it has been submitted to the executor.
+	private static final class Submitted<T> {
+		final T value;
+		final Instant time;
+
+		Submitted(final T value, final Instant time) {
+			this.value = value;
+			this.time = time;
+		}
+	}
+
 
 	public Executor get() {
 		return _executor;
@@ -0,0 +1,143 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.math;
+
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Random;
+
+/**
+ * Alias table for sampling an index from a discrete probability
+ * distribution in constant time, as described by M. D. Vose in <em>A linear
+ * algorithm for generating random numbers with a given distribution</em>
+ * (1991). Creating the table takes <i>O(n)</i> time; every sample takes
+ * <i>O(1)</i> time and consumes one random number, independent of the
+ * distribution.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+public final class AliasTable {
+
+	// The probability of taking the index of the column, instead of its alias.
+	private final double[] _prob;
+	private final int[] _alias;
+
+	private AliasTable(final double[] prob, final int[] alias) {
+		_prob = prob;
+		_alias = alias;
+	}
+
+	/**
+	 * Return the number of indexes of the table.
+	 *
+	 * @return the number of indexes of the table
+	 */
+	public int size() {
+		return _prob.length;
+	}
+
+	/**
+	 * Return a random index, chosen with the probability it has been created
+	 * with.
+	 *
+	 * @param random the random engine used for choosing the index
+	 * @return a random index in the range {@code [0, size())}
+	 * @throws NullPointerException if the given {@code random} engine is
+	 *         {@code null}
+	 */
+	public int sample(final Random random) {
+		// The integer part selects the column, the fractional part decides
+		// between the column index and its alias.
+		final double u = random.nextDouble()*_prob.length;
+		final int index = min((int)u, _prob.length - 1);
+		return u - index < _prob[index] ? index : _alias[index];
+	}
+
+	/**
+	 * Create a new alias table from the given probabilities.
+	 *
+	 * @param probabilities the probabilities of the indexes. The values must
+	 *        not be negative and must sum to one.
+	 * @return a new alias table
+	 * @throws NullPointerException if the given {@code probabilities} array
+	 *         is {@code null}
+	 * @throws IllegalArgumentException if the given {@code probabilities}
+	 *         array is empty
+	 */
+	public static AliasTable of(final double[] probabilities) {
+		final int n = requireNonNull(probabilities).length;
+		if (n == 0) {
+			throw new IllegalArgumentException("Probabilities must not be empty.");
+		}
+
+		final double[] prob = new double[n];
+		final int[] alias = new int[n];
+
+		// The scaled probabilities are split into the columns which are
+		// smaller than one, stored from the start of the 'work' array, and the
+		// columns which are greater or equal one, stored from its end.
+		final double[] scaled = new double[n];
+		final int[] work = new int[n];
+		int small = 0;
+		int large = n;
+		for (int i = 0; i < n; ++i) {
+			scaled[i] = probabilities[i]*n;
+			if (scaled[i] < 1.0) {
+				work[small++] = i;
+			} else {
+				work[--large] = i;
+			}
+		}
+
+		// Every small column is filled up by a large one.
+		while (small > 0 && large < n) {
+			final int l = work[--small];
+			final int g = work[large++];
+
+			prob[l] = scaled[l];
+			alias[l] = g;
+
+			scaled[g] = (scaled[g] + scaled[l]) - 1.0;
+			if (scaled[g] < 1.0) {
+				work[small++] = g;
+			} else {
+				work[--large] = g;
+			}
+		}
+
+		// The remaining columns are full, except for rounding errors.
+		while (large < n) {
+			final int g = work[large++];
+			prob[g] = 1.0;
+			alias[g] = g;
+		}
+		while (small > 0) {
+			final int l = work[--small];
+			prob[l] = 1.0;
+			alias[l] = l;
+		}
+
+		return new AliasTable(prob, alias);
+	}
+
+}
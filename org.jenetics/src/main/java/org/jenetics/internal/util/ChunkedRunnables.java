@@ -0,0 +1,126 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Executes a list of runnables in dynamically sized chunks. Every worker,
+ * which runs this object, repeatedly claims the next chunk of not executed
+ * runnables, until all runnables have been executed. Workers with cheap
+ * runnables will therefore claim more chunks than workers with expensive
+ * ones, and no worker is idle while others still have a long queue.
+ * <p>
+ * The chunk size is chosen adaptively. It never exceeds
+ * {@code remaining/(2*workers)}, so that the chunks are getting smaller at
+ * the end of the list (<em>guided scheduling</em>). It is further reduced
+ * to the number of runnables which can be executed within
+ * {@link #TARGET_CHUNK_NANOS}, according to the measured execution time of
+ * the already executed runnables. This leads to single-runnable chunks for
+ * expensive runnables, with a varying execution time.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @since 3.0
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
+ */
+final class ChunkedRunnables implements Runnable {
+
+	/**
+	 * The targeted execution time of one chunk in nanoseconds.
+	 */
+	static final long TARGET_CHUNK_NANOS = 100_000;
+
+	private final List<? extends Runnable> _runnables;
+	private final int _workers;
+	private final LongConsumer _timing;
+
+	// The index of the next not claimed runnable.
+	private final AtomicInteger _index = new AtomicInteger();
+
+	// The number and the summed execution time of the executed runnables.
+	private final AtomicInteger _count = new AtomicInteger();
+	private final AtomicLong _nanos = new AtomicLong();
+
+	/**
+	 * Create a new chunked runnables object.
+	 *
+	 * @param runnables the runnables to execute
+	 * @param workers the number of workers which are executing the chunks
+	 * @param timing the consumer of the chunk execution times in nanoseconds
+	 */
+	ChunkedRunnables(
+		final List<? extends Runnable> runnables,
+		final int workers,
+		final LongConsumer timing
+	) {
+		_runnables = runnables instanceof RandomAccess ?
+			runnables :
+			new ArrayList<>(runnables);
+		_workers = max(workers, 1);
+		_timing = timing;
+	}
+
+	@Override
+	public void run() {
+		final int size = _runnables.size();
+
+		for (int low = _index.get(); low < size; low = _index.get()) {
+			final int high = min(size, low + chunkSize(size - low));
+			if (_index.compareAndSet(low, high)) {
+				execute(low, high);
+			}
+		}
+	}
+
+	private void execute(final int low, final int high) {
+		final long start = System.nanoTime();
+		for (int i = low; i < high; ++i) {
+			_runnables.get(i).run();
+		}
+		final long nanos = System.nanoTime() - start;
+
+		_nanos.addAndGet(nanos);
+		_count.addAndGet(high - low);
+		_timing.accept(nanos);
+	}
+
+	// Calculates the size of the next chunk, for the given number of not
+	// claimed runnables.
+	private int chunkSize(final int remaining) {
+		final int guided = max(remaining/(2*_workers), 1);
+
+		final int count = _count.get();
+		if (count == 0) {
+			return 1;
+		}
+
+		final long nanos = max(_nanos.get()/count, 1);
+		return (int)min(guided, max(TARGET_CHUNK_NANOS/nanos, 1));
+	}
+
+}
@@ -33,9 +33,21 @@ import java.util.concurrent.FutureTask;
 
 import org.jenetics.internal.collection.Stack;
 
+import org.jenetics.stat.LongMomentStatistics;
+
 /**
+ * Executes single runnables and lists of runnables with an underlying
+ * executor. Lists of runnables are executed in chunks. The
+ * {@link ForkJoinPool} implementation splits the list recursively and lets
+ * the pool steal the work. All other implementations let a fixed number of
+ * workers claim adaptively sized chunks, see {@link ChunkedRunnables}. The
+ * execution times of the chunks are collected and can be accessed with the
+ * {@link #getChunkStatistics()} method. The evolution engine reports the
+ * chunk statistics of the fitness evaluation with the
+ * {@link org.jenetics.engine.MetricsListener#chunked} method.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0 &mdash; <em>$Date: 2014-08-15 $</em>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
  * @since 2.0
  */
 public abstract class Concurrency implements Executor, AutoCloseable {
@@ -44,6 +56,8 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 	public static final Concurrency SERIAL_EXECUTOR = new SerialConcurrency();
 
+	private final LongMomentStatistics _chunks = new LongMomentStatistics();
+
 	public abstract void execute(final List<? extends Runnable> runnables);
 
 	@Override
@@ -59,6 +73,46 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		return this;
 	}
 
+	/**
+	 * Return the statistics of the chunk execution times, in nanoseconds, of
+	 * the runnable lists executed so far. The number of executed chunks is
+	 * given by the {@link LongMomentStatistics#getCount()} method.
+	 *
+	 * @since 3.0
+	 *
+	 * @return a snapshot of the chunk execution time statistics
+	 */
+	public LongMomentStatistics getChunkStatistics() {
+		synchronized (_chunks) {
+			return new LongMomentStatistics().combine(_chunks);
+		}
+	}
+
+	/**
+	 * Records the execution time of one executed chunk.
+	 *
+	 * @param nanos the execution time of the chunk in nanoseconds
+	 */
+	void chunk(final long nanos) {
+		synchronized (_chunks) {
+			_chunks.accept(nanos);
+		}
+	}
+
+	// Executes the given runnables, with a fixed number of workers which are
+	// claiming adaptively sized chunks.
+	void executeChunked(final List<? extends Runnable> runnables) {
+		if (!runnables.isEmpty()) {
+			final int workers = Math.min(runnables.size(), CORES + 1);
+			final Runnable chunks =
+				new ChunkedRunnables(runnables, workers, this::chunk);
+
+			for (int i = 0; i < workers; ++i) {
+				execute(chunks);
+			}
+		}
+	}
+
 	/**
 	 * Return an new Concurrency object from the given executor.
 	 *
@@ -105,7 +159,7 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			_tasks.push(_pool.submit(new RunnablesAction(runnables)));
+			_tasks.push(_pool.submit(new RunnablesAction(runnables, this::chunk)));
 		}
 
 		@Override
@@ -139,10 +193,7 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			final int[] parts = partition(runnables.size(), CORES + 1);
-			for (int i = 0; i < parts.length - 1; ++i) {
-				execute(new RunnablesRunnable(runnables, parts[i], parts[i + 1]));
-			}
+			executeChunked(runnables);
 		}
 
 		@Override
@@ -182,10 +233,7 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 
 		@Override
 		public void execute(final List<? extends Runnable> runnables) {
-			final int[] parts = partition(runnables.size(), CORES + 1);
-			for (int i = 0; i < parts.length - 1; ++i) {
-				execute(new RunnablesRunnable(runnables, parts[i], parts[i + 1]));
-			}
+			executeChunked(runnables);
 		}
 
 		@Override
@@ -222,83 +270,4 @@ public abstract class Concurrency implements Executor, AutoCloseable {
 		}
 	}
 
-
-	/**
-	 * Return a array with the indexes of the partitions of an array with the
-	 * given size. The length of the returned array is {@code min(size, prts) + 1}.
-	 * <p>
-	 * Some examples:
-	 * <pre>
-	 * 	 partition(10, 3): [0, 3, 6, 10]
-	 * 	 partition(15, 6): [0, 2, 4, 6, 9, 12, 15]
-	 * 	 partition(5, 10): [0, 1, 2, 3, 4, 5]
-	 * </pre>
-	 *
-	 * The following examples prints the start index (inclusive) and the end
-	 * index (exclusive) of the {@code partition(15, 6)}.
-	 * [code]
-	 * int[] parts = partition(15, 6);
-	 * for (int i = 0; i &lt; parts.length - 1; ++i) {
-	 *     System.out.println(i + ": " + parts[i] + "\t" + parts[i + 1]);
-	 * }
-	 * [/code]
-	 * <pre>
-	 * 	 0: 0 	2
-	 * 	 1: 2 	4
-	 * 	 2: 4 	6
-	 * 	 3: 6 	9
-	 * 	 4: 9 	12
-	 * 	 5: 12	15
-	 * </pre>
-	 *
-	 * This example shows how this can be used in an concurrent environment:
-	 * [code]
-	 * try (final Concurrency c = Concurrency.start()) {
-	 *     final int[] parts = arrays.partition(population.size(), _maxThreads);
-	 *
-	 *     for (int i = 0; i &lt; parts.length - 1; ++i) {
-	 *         final int part = i;
-	 *         c.execute(new Runnable() { @Override public void run() {
-	 *             for (int j = parts[part + 1]; --j &gt;= parts[part];) {
-	 *                 population.get(j).evaluate();
-	 *             }
-	 *         }});
-	 *     }
-	 * }
-	 * [/code]
-	 *
-	 * @param size the size of the array to partition.
-	 * @param parts the number of parts the (virtual) array should be partitioned.
-	 * @return the partition array with the length of {@code min(size, parts) + 1}.
-	 * @throws IllegalArgumentException if {@code size} or {@code p} is less than one.
-	 */
-	private static int[] partition(final int size, final int parts) {
-		if (size < 1) {
-			throw new IllegalArgumentException(
-				"Size must greater than zero: " + size
-			);
-		}
-		if (parts < 1) {
-			throw new IllegalArgumentException(
-				"Number of partitions must greater than zero: " + parts
-			);
-		}
-
-		final int pts = Math.min(size, parts);
-		final int[] partition = new int[pts + 1];
-
-		final int bulk = size/pts;
-		final int rest = size%pts;
-		assert ((bulk*pts + rest) == size);
-
-		for (int i = 0, n = pts - rest; i < n; ++i) {
-			partition[i] = i*bulk;
-		}
-		for (int i = 0, n = rest + 1; i < n; ++i) {
-			partition[pts - rest + i] = (pts - rest)*bulk + i*(bulk + 1);
-		}
-
-		return partition;
-	}
-
 }
@@ -25,10 +25,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.RandomAccess;
 import java.util.concurrent.RecursiveAction;
+import java.util.function.LongConsumer;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
- * @version 2.0 &mdash; <em>$Date: 2014-10-17 $</em>
+ * @version 3.0 &mdash; <em>$Date: 2014-12-28 $</em>
  * @since 2.0
  */
 final class RunnablesAction extends RecursiveAction {
@@ -40,27 +41,34 @@ final class RunnablesAction extends RecursiveAction {
 	private final int _high;
 	private final int _low;
 	private final Integer _threshold;
+	private final LongConsumer _timing;
 
 	private RunnablesAction(
 		final List<? extends Runnable> runnables,
 		final int low,
 		final int high,
-		final Integer threshold
+		final Integer threshold,
+		final LongConsumer timing
 	) {
 		_runnables = runnables;
 		_low = low;
 		_high = high;
 		_threshold = threshold;
+		_timing = timing;
 	}
 
-	public RunnablesAction(final List<? extends Runnable> runnables) {
+	public RunnablesAction(
+		final List<? extends Runnable> runnables,
+		final LongConsumer timing
+	) {
 		this(
 			runnables instanceof RandomAccess ?
 				runnables :
 				new ArrayList<>(runnables),
 			0,
 			runnables.size(),
-			null
+			null,
+			timing
 		);
 	}
 
@@ -69,14 +77,16 @@ final class RunnablesAction extends RecursiveAction {
 		final int threshold = _threshold != null ? _threshold : threshold();
 
 		if (_high - _low < threshold) {
+			final long start = System.nanoTime();
 			for (int i = _low; i < _high; ++i) {
 				_runnables.get(i).run();
 			}
+			_timing.accept(System.nanoTime() - start);
 		} else {
 			final int mid = (_low + _high) >>> 1;
 			invokeAll(
-				new RunnablesAction(_runnables, _low, mid, threshold),
-				new RunnablesAction(_runnables, mid, _high, threshold)
+				new RunnablesAction(_runnables, _low, mid, threshold, _timing),
+				new RunnablesAction(_runnables, mid, _high, threshold, _timing)
 			);
 		}
 	}
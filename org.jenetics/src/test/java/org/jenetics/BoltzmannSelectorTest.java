@@ -23,8 +23,10 @@ import static java.lang.String.format;
 import static org.jenetics.util.RandomRegistry.using;
 
 import java.util.Arrays;
+import java.util.Random;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -76,6 +78,54 @@ public class BoltzmannSelectorTest
 		});
 	}
 
+	@Test(dataProvider = "intensities")
+	public void boltzmannEqualsScaledExp(final Double b) {
+		final double[] values = new Random(123).doubles(1000, -2, 10).toArray();
+
+		// Straight forward calculation of the probabilities.
+		final double max = Arrays.stream(values).max().getAsDouble();
+		final double[] expected = Arrays.stream(values)
+			.map(v -> Math.exp(b*v/max))
+			.toArray();
+		final double sum = Arrays.stream(expected).sum();
+		for (int i = 0; i < expected.length; ++i) {
+			expected[i] /= sum;
+		}
+
+		final double[] probabilities =
+			BoltzmannSelector.boltzmann(values.clone(), b);
+		for (int i = 0; i < values.length; ++i) {
+			Assert.assertEquals(probabilities[i], expected[i], 1E-12);
+		}
+	}
+
+	@DataProvider(name = "intensities")
+	public Object[][] intensities() {
+		return new Object[][] {
+			{-4.0}, {-2.0}, {0.0}, {2.0}, {5.0}, {20.0}
+		};
+	}
+
+	@Test
+	public void boltzmannLargeIntensity() {
+		final double[] values = {1.0, 2.0, 3.0, 4.0};
+
+		final double[] probabilities =
+			BoltzmannSelector.boltzmann(values.clone(), 10_000);
+		Assert.assertEquals(probabilities, new double[]{0, 0, 0, 1});
+
+		final double[] inverse =
+			BoltzmannSelector.boltzmann(values.clone(), -10_000);
+		Assert.assertEquals(inverse, new double[]{1, 0, 0, 0});
+	}
+
+	@Test
+	public void boltzmannZeroFitness() {
+		final double[] probabilities =
+			BoltzmannSelector.boltzmann(new double[]{0, 0, 0, 0}, 4);
+		Assert.assertEquals(probabilities, new double[]{0.25, 0.25, 0.25, 0.25});
+	}
+
 	@DataProvider(name = "expectedDistribution")
 	public Object[][] expectedDistribution() {
 		final String resource =
@@ -23,6 +23,7 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import org.jenetics.util.ISeq;
 import org.jenetics.util.MSeq;
 
 /**
@@ -174,4 +175,26 @@ public class CompositeAltererTest {
 		Assert.assertEquals(alterer.getAlterers().get(5), new SwapMutator<DoubleGene, Double>());
 	}
 
+	@Test
+	public void flatten() {
+		final Alterer<DoubleGene, Double> mutator = new Mutator<>();
+		Assert.assertEquals(Alterer.flatten(mutator), ISeq.of(mutator));
+
+		final Alterer<DoubleGene, Double> alterer = Alterer.of(
+			new MeanAlterer<DoubleGene, Double>(),
+			Alterer.of(
+				new Mutator<DoubleGene, Double>(),
+				new SwapMutator<DoubleGene, Double>()
+			)
+		);
+		Assert.assertEquals(
+			Alterer.flatten(alterer),
+			ISeq.of(
+				new MeanAlterer<DoubleGene, Double>(),
+				new Mutator<DoubleGene, Double>(),
+				new SwapMutator<DoubleGene, Double>()
+			)
+		);
+	}
+
 }
@@ -0,0 +1,219 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics;
+
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.Factory;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class PackedPopulationTest {
+
+	private static <G extends Gene<?, G>> Population<G, Double>
+	population(final Factory<Genotype<G>> factory, final int size) {
+		final Function<Genotype<G>, Double> ff = gt -> (double)gt.hashCode();
+
+		final Population<G, Double> population = new Population<>(size);
+		for (int i = 0; i < size; ++i) {
+			final Phenotype<G, Double> pt = Phenotype.of(factory.newInstance(), i, ff);
+			if (i%2 == 0) {
+				pt.evaluate();
+			}
+			population.add(pt);
+		}
+		return population;
+	}
+
+	@Test(dataProvider = "genotypes")
+	public void packAndUnpack(final Factory<Genotype<?>> factory) {
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		final Population<?, Double> population =
+			population((Factory)factory, 50);
+		final PackedPopulation<?, Double> packed = PackedPopulation.of(population);
+
+		Assert.assertEquals(packed.size(), population.size());
+		Assert.assertEquals(
+			packed.getNumberOfGenes(),
+			population.get(0).getGenotype().getNumberOfGenes()
+		);
+
+		final Population<?, Double> unpacked = packed.toPopulation();
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<?, Double> expected = population.get(i);
+			final Phenotype<?, Double> actual = unpacked.get(i);
+
+			Assert.assertEquals(actual.getGenotype(), expected.getGenotype());
+			Assert.assertEquals(actual.getGeneration(), expected.getGeneration());
+			Assert.assertEquals(actual.isEvaluated(), expected.isEvaluated());
+			Assert.assertEquals(actual.getFitness(), expected.getFitness());
+			Assert.assertSame(
+				actual.getFitnessFunction(),
+				expected.getFitnessFunction()
+			);
+		}
+	}
+
+	@DataProvider(name = "genotypes")
+	public Object[][] genotypes() {
+		return new Object[][] {
+			{Genotype.of(
+				DoubleChromosome.of(-10, 10, 5),
+				DoubleChromosome.of(0, 1, 3))},
+			{Genotype.of(IntegerChromosome.of(-100, 100, 10), 3)},
+			{Genotype.of(LongChromosome.of(0, Long.MAX_VALUE, 7), 2)},
+			{Genotype.of(
+				BitChromosome.of(13, 0.3),
+				BitChromosome.of(20, 0.7),
+				BitChromosome.of(3, 0.5))}
+		};
+	}
+
+	@Test
+	public void primitiveValues() {
+		final Population<DoubleGene, Double> population =
+			population(Genotype.of(DoubleChromosome.of(0, 1, 4), 2), 20);
+		final PackedPopulation<DoubleGene, Double> packed =
+			PackedPopulation.of(population);
+
+		for (int i = 0; i < population.size(); ++i) {
+			final Genotype<DoubleGene> gt = population.get(i).getGenotype();
+			for (int j = 0; j < gt.getNumberOfGenes(); ++j) {
+				Assert.assertEquals(
+					packed.doubleValue(i, j),
+					gt.getChromosome(j/4).getGene(j%4).doubleValue()
+				);
+			}
+		}
+	}
+
+	@Test
+	public void bitValues() {
+		final Population<BitGene, Double> population =
+			population(Genotype.of(BitChromosome.of(11, 0.5), 3), 20);
+		final PackedPopulation<BitGene, Double> packed =
+			PackedPopulation.of(population);
+
+		for (int i = 0; i < population.size(); ++i) {
+			final Genotype<BitGene> gt = population.get(i).getGenotype();
+			for (int j = 0; j < gt.getNumberOfGenes(); ++j) {
+				Assert.assertEquals(
+					packed.longValue(i, j),
+					gt.getChromosome(j/11).getGene(j%11).getBit() ? 1L : 0L
+				);
+			}
+		}
+	}
+
+	@Test
+	public void bitOneProbability() {
+		final Population<BitGene, Double> population =
+			population(Genotype.of(BitChromosome.of(20, 0.25), 2), 20);
+		final PackedPopulation<BitGene, Double> packed =
+			PackedPopulation.of(population);
+
+		for (int i = 0; i < packed.size(); ++i) {
+			for (Chromosome<BitGene> ch : packed.getGenotype(i)) {
+				Assert.assertEquals(
+					((BitChromosome)ch).getOneProbability(), 0.25
+				);
+			}
+		}
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void generationIndexOutOfBounds() {
+		final PackedPopulation<DoubleGene, Double> packed = PackedPopulation.of(
+			population(Genotype.of(DoubleChromosome.of(0, 1, 4)), 10)
+		);
+		packed.getGeneration(10);
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void rawFitnessIndexOutOfBounds() {
+		final PackedPopulation<DoubleGene, Double> packed = PackedPopulation.of(
+			population(Genotype.of(DoubleChromosome.of(0, 1, 4)), 10)
+		);
+		packed.getRawFitness(10);
+	}
+
+	@Test
+	public void set() {
+		final Population<IntegerGene, Double> population =
+			population(Genotype.of(IntegerChromosome.of(0, 100, 10)), 10);
+		final PackedPopulation<IntegerGene, Double> packed =
+			PackedPopulation.of(population);
+
+		final Phenotype<IntegerGene, Double> pt = population.get(3)
+			.newInstance(Genotype.of(IntegerChromosome.of(0, 100, 10)), 17)
+			.evaluate();
+		packed.set(5, pt);
+
+		Assert.assertEquals(packed.get(5), pt);
+		Assert.assertEquals(packed.getGeneration(5), 17L);
+		Assert.assertEquals(packed.getRawFitness(5), pt.getRawFitness());
+		Assert.assertEquals(packed.get(4), population.get(4));
+		Assert.assertEquals(packed.get(6), population.get(6));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void setDifferentLength() {
+		final Population<IntegerGene, Double> population =
+			population(Genotype.of(IntegerChromosome.of(0, 100, 10)), 10);
+		final PackedPopulation<IntegerGene, Double> packed =
+			PackedPopulation.of(population);
+
+		packed.set(0, population.get(0)
+			.newInstance(Genotype.of(IntegerChromosome.of(0, 100, 11)), 1));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void setDifferentBounds() {
+		final Population<IntegerGene, Double> population =
+			population(Genotype.of(IntegerChromosome.of(0, 100, 10)), 10);
+		final PackedPopulation<IntegerGene, Double> packed =
+			PackedPopulation.of(population);
+
+		packed.set(0, population.get(0)
+			.newInstance(Genotype.of(IntegerChromosome.of(0, 99, 10)), 1));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void unsupportedChromosome() {
+		PackedPopulation.of(population(
+			Genotype.of(CharacterChromosome.of(10)), 10
+		));
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void geneIndexOutOfBounds() {
+		final PackedPopulation<DoubleGene, Double> packed = PackedPopulation.of(
+			population(Genotype.of(DoubleChromosome.of(0, 1, 4)), 10)
+		);
+		packed.doubleValue(0, 4);
+	}
+
+}
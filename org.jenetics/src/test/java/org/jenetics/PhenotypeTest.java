@@ -23,8 +23,19 @@ import static java.lang.Math.sin;
 import static java.lang.Math.toRadians;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
 
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
 import org.jenetics.util.Factory;
 import org.jenetics.util.ObjectTester;
 
@@ -50,4 +61,37 @@ public class PhenotypeTest extends ObjectTester<Phenotype<DoubleGene, Double>> {
 		return () -> Phenotype.of(_genotype.newInstance(), 0, _ff).evaluate();
 	}
 
+	@Test
+	public void concurrentEvaluation() throws Exception {
+		final AtomicInteger calls = new AtomicInteger();
+		final CountDownLatch started = new CountDownLatch(1);
+		final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+			_genotype.newInstance(),
+			0,
+			gt -> {
+				calls.incrementAndGet();
+				started.countDown();
+				LockSupport.parkNanos(20_000_000);
+				return gt.getGene().getAllele();
+			}
+		);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<Double>> results = new ArrayList<>();
+			for (int i = 0; i < 8; ++i) {
+				results.add(executor.submit(pt::getFitness));
+			}
+			started.await();
+			Assert.assertTrue(pt.getRawFitness() != null);
+
+			for (Future<Double> result : results) {
+				Assert.assertSame(result.get(), pt.getFitness());
+			}
+			Assert.assertEquals(calls.get(), 1);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 }
@@ -24,6 +24,7 @@ import java.util.Random;
 import java.util.function.Function;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import org.jenetics.util.Factory;
@@ -92,4 +93,74 @@ public class PopulationTest
 		}
 	}
 
+	@Test(dataProvider = "optimize")
+	public void populationSortEqualsSortWith(final Optimize optimize) {
+		final Random random = new Random(123);
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 500; ++i) {
+			// Only a few distinct values, for checking the sort stability.
+			population.add(pt(random.nextInt(10)));
+		}
+
+		final Population<DoubleGene, Double> expected = population.copy();
+		expected.sortWith(optimize.<Double>descending());
+
+		population.populationSort(optimize);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertSame(population.get(i), expected.get(i));
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void populationSortIntegerFitness(final Optimize optimize) {
+		final Random random = new Random(123);
+		final Population<DoubleGene, Integer> population = new Population<>();
+		for (int i = 0; i < 500; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(random.nextInt(10), 0, 10))),
+				0,
+				gt -> gt.getGene().getAllele().intValue()
+			));
+		}
+		Assert.assertNotNull(population.fitnessValues());
+
+		final Population<DoubleGene, Integer> expected = population.copy();
+		expected.sortWith(optimize.<Integer>descending());
+
+		population.populationSort(optimize);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertSame(population.get(i), expected.get(i));
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void populationSortLongFitness(final Optimize optimize) {
+		final Random random = new Random(123);
+		final Population<DoubleGene, Long> population = new Population<>();
+		for (int i = 0; i < 100; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(random.nextInt(10), 0, 10))),
+				0,
+				gt -> Long.MAX_VALUE - gt.getGene().getAllele().longValue()
+			));
+		}
+		Assert.assertNull(population.fitnessValues());
+
+		final Population<DoubleGene, Long> expected = population.copy();
+		expected.sortWith(optimize.<Long>descending());
+
+		population.populationSort(optimize);
+		for (int i = 0; i < population.size(); ++i) {
+			Assert.assertSame(population.get(i), expected.get(i));
+		}
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {
+			{Optimize.MAXIMUM},
+			{Optimize.MINIMUM}
+		};
+	}
+
 }
@@ -91,4 +91,14 @@ public class ProbabilitySelectorTest {
 		);
 	}
 
+	@Test
+	public void aliasSampling() {
+		Assert.assertFalse(ProbabilitySelector.isAliasSampling(1, 10));
+		Assert.assertFalse(ProbabilitySelector.isAliasSampling(1000, 10));
+		Assert.assertFalse(ProbabilitySelector.isAliasSampling(1000, 124));
+		Assert.assertTrue(ProbabilitySelector.isAliasSampling(1000, 125));
+		Assert.assertTrue(ProbabilitySelector.isAliasSampling(1000, 1000));
+		Assert.assertTrue(ProbabilitySelector.isAliasSampling(5, 1));
+	}
+
 }
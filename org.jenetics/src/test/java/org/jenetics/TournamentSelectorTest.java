@@ -20,11 +20,18 @@
 package org.jenetics;
 
 import static java.lang.String.format;
+import static java.util.stream.Collectors.maxBy;
+import static java.util.stream.Collectors.toList;
 import static org.jenetics.util.RandomRegistry.using;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -34,6 +41,7 @@ import org.jenetics.stat.Histogram;
 import org.jenetics.stat.StatisticsAssert;
 import org.jenetics.util.Factory;
 import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
 import org.jenetics.util.TestData;
 
 /**
@@ -70,6 +78,98 @@ public class TournamentSelectorTest
 		});
 	}
 
+	@Test(dataProvider = "optimize")
+	public void selectEqualsStreamSelection(final Optimize opt) {
+		final Population<DoubleGene, Double> population =
+			population(500, gt -> gt.getGene().getAllele());
+
+		final Population<DoubleGene, Double> selection =
+			RandomRegistry.with(new LCG64ShiftRandom(17), r ->
+				new TournamentSelector<DoubleGene, Double>(3)
+					.select(population, 1000, opt));
+		final List<Phenotype<DoubleGene, Double>> expected =
+			RandomRegistry.with(new LCG64ShiftRandom(17), r ->
+				streamSelect(population, 1000, 3, opt));
+
+		Assert.assertEquals(selection.size(), 1000);
+		for (int i = 0; i < expected.size(); ++i) {
+			Assert.assertSame(selection.get(i), expected.get(i));
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void selectNonNumericFitness(final Optimize opt) {
+		final Population<DoubleGene, String> population =
+			population(500, gt -> String.valueOf(gt.getGene().getAllele()));
+
+		final Population<DoubleGene, String> selection =
+			RandomRegistry.with(new LCG64ShiftRandom(17), r ->
+				new TournamentSelector<DoubleGene, String>(4)
+					.select(population, 1000, opt));
+		final List<Phenotype<DoubleGene, String>> expected =
+			RandomRegistry.with(new LCG64ShiftRandom(17), r ->
+				streamSelect(population, 1000, 4, opt));
+
+		for (int i = 0; i < expected.size(); ++i) {
+			Assert.assertSame(selection.get(i), expected.get(i));
+		}
+	}
+
+	@Test(dataProvider = "optimize")
+	public void concurrentSelect(final Optimize opt) {
+		final Population<DoubleGene, Double> population =
+			population(1000, gt -> gt.getGene().getAllele());
+		final int count = 3*TournamentSelector.CHUNK_SIZE + 17;
+
+		final Population<DoubleGene, Double> concurrent =
+			RandomRegistry.with(new LCG64ShiftRandom(17), r ->
+				new TournamentSelector<DoubleGene, Double>(
+					3, ForkJoinPool.commonPool()
+				).select(population, count, opt));
+		final Population<DoubleGene, Double> serial =
+			RandomRegistry.with(new LCG64ShiftRandom(17), r ->
+				new TournamentSelector<DoubleGene, Double>(
+					3, Runnable::run
+				).select(population, count, opt));
+
+		Assert.assertEquals(concurrent.size(), count);
+		for (int i = 0; i < count; ++i) {
+			Assert.assertSame(concurrent.get(i), serial.get(i));
+		}
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
+	private static <C extends Comparable<? super C>> Population<DoubleGene, C>
+	population(final int size, final Function<Genotype<DoubleGene>, C> ff) {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 10));
+		final Population<DoubleGene, C> population = new Population<>(size);
+		for (int i = 0; i < size; ++i) {
+			population.add(Phenotype.of(gtf.newInstance(), 1, ff));
+		}
+		return population;
+	}
+
+	// The former, stream based, tournament selection.
+	private static <C extends Comparable<? super C>>
+	List<Phenotype<DoubleGene, C>> streamSelect(
+		final Population<DoubleGene, C> population,
+		final int count,
+		final int sampleSize,
+		final Optimize opt
+	) {
+		final Random random = RandomRegistry.getRandom();
+		final int N = population.size();
+		return IntStream.range(0, count)
+			.mapToObj(j -> IntStream.range(0, sampleSize)
+				.mapToObj(i -> population.get(random.nextInt(N)))
+				.collect(maxBy(opt.ascending())).get())
+			.collect(toList());
+	}
+
 	@DataProvider(name = "expectedDistribution")
 	public Object[][] expectedDistribution() {
 		final String resource =
@@ -23,7 +23,9 @@ import static org.jenetics.util.RandomRegistry.using;
 
 import java.util.Arrays;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
 
 import org.jenetics.internal.util.Named;
 
@@ -46,6 +48,40 @@ public class TruncationSelectorTest
 		return TruncationSelector::new;
 	}
 
+	@Test(dataProvider = "optimize")
+	public void selectTopEqualsSortedSelection(final Optimize opt) {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 10));
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 1000; ++i) {
+			population.add(Phenotype.of(
+				gtf.newInstance(), 1, gt -> Math.floor(gt.getGene().getAllele())
+			));
+		}
+		final Population<DoubleGene, Double> original = population.copy();
+
+		final Population<DoubleGene, Double> sorted = population.copy();
+		sorted.populationSort(opt);
+
+		for (int count : new int[]{0, 1, 10, 500, 999}) {
+			final Population<DoubleGene, Double> selection =
+				new TruncationSelector<DoubleGene, Double>()
+					.select(population, count, opt);
+
+			Assert.assertEquals(selection.size(), count);
+			for (int i = 0; i < count; ++i) {
+				Assert.assertSame(selection.get(i), sorted.get(i));
+			}
+		}
+
+		// The population is not sorted for a top-k selection.
+		Assert.assertEquals(population, original);
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
 	// Working, but not stable enough.
 	//@Test(dataProvider = "expectedDistribution")
 	public void selectDistribution(final Named<double[]> expected, final Optimize opt) {
@@ -0,0 +1,171 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Mutator;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.util.LCG64ShiftRandom;
+import org.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class CheckpointerTest {
+
+	private static final Function<Genotype<DoubleGene>, Double> FITNESS =
+		gt -> gt.getGene().getAllele();
+
+	private static final Engine<DoubleGene, Double> ENGINE = Engine
+		.builder(FITNESS, DoubleChromosome.of(0, 1))
+		.populationSize(20)
+		.build();
+
+	private static Path file() throws IOException {
+		final Path file = Files.createTempFile("jenetics-", ".checkpoint");
+		file.toFile().deleteOnExit();
+		return file;
+	}
+
+	@Test
+	public void writeRead() throws IOException {
+		final Path file = file();
+		final EvolutionResult<DoubleGene, Double> result = ENGINE.stream()
+			.limit(5)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final Random random = new LCG64ShiftRandom(123);
+		Checkpoint.of(result, random).write(file);
+
+		final Checkpoint<DoubleGene, Double> checkpoint = Checkpoint.read(file);
+		Assert.assertEquals(checkpoint.getGeneration(), result.getGeneration());
+
+		final Population<DoubleGene, Double> expected = result.getPopulation();
+		final Population<DoubleGene, Double> actual = checkpoint.getPopulation();
+		Assert.assertEquals(actual.size(), expected.size());
+		for (int i = 0; i < expected.size(); ++i) {
+			Assert.assertEquals(
+				actual.get(i).getGenotype(),
+				expected.get(i).getGenotype()
+			);
+			Assert.assertEquals(
+				actual.get(i).getGeneration(),
+				expected.get(i).getGeneration()
+			);
+			Assert.assertEquals(
+				actual.get(i).getRawFitness(),
+				expected.get(i).getRawFitness()
+			);
+		}
+
+		final Random restored = checkpoint.getRandom().get();
+		for (int i = 0; i < 100; ++i) {
+			Assert.assertEquals(restored.nextLong(), random.nextLong());
+		}
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void readInvalidFile() throws IOException {
+		final Path file = file();
+		Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+		Checkpoint.read(file);
+	}
+
+	@Test
+	public void interval() throws IOException {
+		final Checkpointer<DoubleGene, Double> checkpointer = Checkpointer
+			.<DoubleGene, Double>builder(file())
+			.interval(10)
+			.build();
+
+		ENGINE.stream()
+			.limit(25)
+			.peek(checkpointer)
+			.forEach(r -> {});
+		checkpointer.flush();
+
+		Assert.assertTrue(checkpointer.getCheckpointCount() >= 1);
+		final Checkpoint<DoubleGene, Double> checkpoint =
+			Checkpoint.read(checkpointer.getPath());
+		Assert.assertEquals(checkpoint.getGeneration(), 20L);
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Checkpointer<DoubleGene, Double> checkpointer = Checkpointer
+			.<DoubleGene, Double>builder(file())
+			.interval(5)
+			.build();
+
+		RandomRegistry.using(new LCG64ShiftRandom(456), r ->
+			ENGINE.stream()
+				.limit(5)
+				.forEach(checkpointer)
+		);
+		checkpointer.flush();
+
+		final Checkpoint<DoubleGene, Double> checkpoint =
+			Checkpoint.read(checkpointer.getPath());
+		Assert.assertTrue(checkpoint.getRandom().isPresent());
+
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = ENGINE.builder()
+			.fitnessFunction(gt -> {
+				evaluations.incrementAndGet();
+				return FITNESS.apply(gt);
+			})
+			.alterers(new Mutator<>(0))
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.stream(checkpoint).limit(1).findFirst().get();
+
+		Assert.assertEquals(result.getGeneration(), checkpoint.getGeneration() + 1);
+		Assert.assertEquals(evaluations.get(), 0);
+
+		final Phenotype<DoubleGene, Double> best = checkpoint.getPopulation()
+			.stream()
+			.max(Phenotype::compareTo)
+			.get();
+		Assert.assertEquals(result.getBestPhenotype().getRawFitness(), best.getRawFitness());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void missingIntervalAndPeriod() throws IOException {
+		Checkpointer.<DoubleGene, Double>builder(file())
+			.interval(0)
+			.build();
+	}
+
+}
@@ -19,11 +19,38 @@
  */
 package org.jenetics.engine;
 
+import static java.util.stream.Collectors.toList;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import org.jenetics.internal.util.Concurrency;
+
 import org.jenetics.DoubleChromosome;
 import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Mutator;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+import org.jenetics.TruncationSelector;
+import org.jenetics.engine.MetricsListener.Stage;
+import org.jenetics.util.RandomRegistry;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
@@ -44,4 +71,927 @@ public class EngineTest {
 		Assert.assertEquals(123L, result.getTotalGenerations());
 	}
 
+	@Test
+	public void fitnessCache() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> {
+					calls.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.fitnessCache(1000, 10)
+			.build();
+
+		final int[] counts = new int[2];
+		engine.stream()
+			.limit(50)
+			.forEach(r -> {
+				counts[0] += r.getCacheHitCount();
+				counts[1] += r.getCacheMissCount();
+			});
+
+		Assert.assertTrue(counts[0] > 0);
+		Assert.assertEquals(
+			counts[1],
+			calls.get() - engine.getPopulationSize()
+		);
+	}
+
+	@Test
+	public void reproducibleInitialPopulation() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1, 10))
+			.populationSize(500)
+			.build();
+		final Engine<DoubleGene, Double> serial = engine.builder()
+			.executor(Runnable::run)
+			.build();
+
+		final List<Genotype<DoubleGene>> concurrent =
+			RandomRegistry.with(new Random(123), r ->
+				engine.evolutionStart().population.stream()
+					.map(Phenotype::getGenotype)
+					.collect(toList())
+			);
+		final List<Genotype<DoubleGene>> expected =
+			RandomRegistry.with(new Random(123), r ->
+				serial.evolutionStart().population.stream()
+					.map(Phenotype::getGenotype)
+					.collect(toList())
+			);
+
+		Assert.assertEquals(concurrent.size(), 500);
+		Assert.assertEquals(concurrent, expected);
+		Assert.assertEquals(concurrent.stream().distinct().count(), 500L);
+	}
+
+	@Test
+	public void lazyInitialGenotypes() {
+		final AtomicInteger count = new AtomicInteger();
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 1));
+		final Iterable<Genotype<DoubleGene>> genotypes = () ->
+			new Iterator<Genotype<DoubleGene>>() {
+				@Override
+				public boolean hasNext() {
+					return true;
+				}
+
+				@Override
+				public Genotype<DoubleGene> next() {
+					count.incrementAndGet();
+					return gtf.newInstance();
+				}
+			};
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), gtf)
+			.populationSize(30)
+			.build();
+
+		final EvolutionStream<DoubleGene, Double> stream = engine.stream(genotypes);
+		Assert.assertEquals(count.get(), 0);
+
+		stream.limit(3).count();
+		Assert.assertEquals(count.get(), 30);
+	}
+
+	@Test
+	public void duplicateGenotypesAreEvaluatedOnce() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> {
+					calls.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.alterers(EngineTest::constant)
+			.populationSize(40)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.evolve(duplicates(engine), 1);
+
+		// Four distinct start genotypes and one distinct offspring genotype.
+		Assert.assertEquals(calls.get(), 5);
+		result.getPopulation().forEach(pt -> Assert.assertEquals(
+			pt.getFitness(),
+			pt.getGenotype().getGene().getAllele()
+		));
+	}
+
+	@Test
+	public void pipelinedDuplicateGenotypesAreEvaluatedOnce() {
+		final AtomicInteger calls = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> {
+					calls.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.alterers(EngineTest::constant)
+			.populationSize(40)
+			.pipelined(1)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.evolve(duplicates(engine), 1);
+
+		Assert.assertEquals(calls.get(), 5);
+		Assert.assertEquals(result.getPopulation().size(), 40);
+	}
+
+	// Population of 40 individuals, with only 4 distinct genotypes. Every
+	// genotype is shared by 5 distinct phenotypes and by one phenotype which
+	// occurs 5 times.
+	private static Population<DoubleGene, Double>
+	duplicates(final Engine<DoubleGene, Double> engine) {
+		final Population<DoubleGene, Double> population = new Population<>(40);
+		for (int i = 0; i < 4; ++i) {
+			final Genotype<DoubleGene> gt =
+				engine.getGenotypeFactory().newInstance();
+			final Phenotype<DoubleGene, Double> pt = Phenotype.of(
+				gt, 1, engine.getFitnessFunction(), engine.getFitnessScaler()
+			);
+			for (int j = 0; j < 5; ++j) {
+				population.add(Phenotype.of(
+					Genotype.of(gt.getChromosome()),
+					1,
+					engine.getFitnessFunction(),
+					engine.getFitnessScaler()
+				));
+				population.add(pt);
+			}
+		}
+		return population;
+	}
+
+	@Test
+	public void noFitnessCache() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.build();
+
+		engine.stream()
+			.limit(10)
+			.forEach(r -> {
+				Assert.assertEquals(r.getCacheHitCount(), 0);
+				Assert.assertEquals(r.getCacheMissCount(), 0);
+			});
+	}
+
+	@Test
+	public void batchFitnessFunction() {
+		final AtomicInteger calls = new AtomicInteger();
+		final AtomicInteger batchCalls = new AtomicInteger();
+		final AtomicInteger maxBatchSize = new AtomicInteger();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				(Genotype<DoubleGene> gt) -> {
+					calls.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(
+				(List<Genotype<DoubleGene>> gts) -> {
+					batchCalls.incrementAndGet();
+					maxBatchSize.accumulateAndGet(gts.size(), Math::max);
+					return gts.stream()
+						.map(gt -> gt.getGene().getAllele())
+						.collect(toList());
+				},
+				7)
+			.populationSize(100)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(calls.get(), 0);
+		Assert.assertTrue(batchCalls.get() >= 100/7);
+		Assert.assertTrue(maxBatchSize.get() <= 7);
+		result.getPopulation().forEach(pt -> {
+			Assert.assertTrue(pt.isEvaluated());
+			Assert.assertEquals(pt.getFitness(), pt.getGenotype().getGene().getAllele());
+		});
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void invalidBatchFitnessFunction() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(gts -> gts.subList(0, 0).stream()
+				.map(gt -> gt.getGene().getAllele())
+				.collect(toList()), 10)
+			.executor(Runnable::run)
+			.build();
+
+		engine.stream().limit(1).forEach(r -> {});
+	}
+
+	@Test
+	public void asyncFitnessFunction() {
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger maxInFlight = new AtomicInteger();
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt -> {
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				return CompletableFuture.supplyAsync(() -> {
+					inFlight.decrementAndGet();
+					return gt.getGene().getAllele();
+				}, ForkJoinPool.commonPool());
+			}, 5)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(20)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertTrue(maxInFlight.get() <= 5, "" + maxInFlight.get());
+		Assert.assertEquals(result.getTotalGenerations(), 20L);
+		result.getPopulation().forEach(pt -> {
+			Assert.assertTrue(pt.isEvaluated());
+			Assert.assertEquals(
+				pt.getFitness(),
+				pt.getGenotype().getGene().getAllele()
+			);
+		});
+	}
+
+	@Test(expectedExceptions = CompletionException.class)
+	public void failingAsyncFitnessFunction() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(gt -> {
+				final CompletableFuture<Double> future = new CompletableFuture<>();
+				future.completeExceptionally(new IllegalStateException());
+				return future;
+			}, 3)
+			.build();
+
+		engine.stream().limit(1).forEach(r -> {});
+	}
+
+	@Test
+	public void resumeWithStoredFitness() {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(100)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(5)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		count.set(0);
+		final Iterator<EvolutionResult<DoubleGene, Double>> it =
+			engine.iterator(result.getPopulation(), 6, 0.0);
+		it.next();
+
+		// Only the offspring of the first evolution step is evaluated.
+		Assert.assertTrue(count.get() <= engine.getOffspringCount(), "" + count);
+
+		count.set(0);
+		engine.builder().executor(Runnable::run).build()
+			.iterator(result.getPopulation(), 6, 0.0)
+			.next();
+
+		// Only the offspring of the first evolution step is evaluated.
+		Assert.assertTrue(count.get() <= engine.getOffspringCount(), "" + count);
+
+		// Equal genotypes are only evaluated once.
+		final long distinct = result.getPopulation().stream()
+			.map(Phenotype::getGenotype)
+			.distinct()
+			.count();
+
+		count.set(0);
+		engine.iterator(result.getPopulation(), 6).next();
+		Assert.assertTrue(count.get() >= distinct, "" + count);
+	}
+
+	@Test
+	public void resumeWithInvalidStoredFitness() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.executor(Runnable::run)
+			.build();
+
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 20; ++i) {
+			population.add(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)), 1, gt -> -1.0
+			).evaluate());
+		}
+
+		final EvolutionResult<DoubleGene, Double> result = engine
+			.stream(population, 1, 1.0)
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		result.getPopulation().forEach(pt ->
+			Assert.assertTrue(pt.getFitness() >= 0.0)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void resumeWithInvalidVerification() {
+		Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.build()
+			.stream(new Population<>(), 1, 1.5);
+	}
+
+	@Test
+	public void pipelined() {
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> {
+						final double value = gt.getGene().getAllele();
+						if (value > 0.9) {
+							LockSupport.parkNanos(50_000_000);
+						}
+						return value;
+					},
+					DoubleChromosome.of(0, 1))
+				.populationSize(40)
+				.pipelined(2)
+				.executor(executor)
+				.build();
+
+			final List<EvolutionResult<DoubleGene, Double>> results =
+				engine.stream()
+					.limit(20)
+					.collect(toList());
+
+			Assert.assertEquals(results.size(), 20);
+			for (EvolutionResult<DoubleGene, Double> result : results) {
+				Assert.assertTrue(result.getPopulation().size() <= 40);
+				Assert.assertTrue(result.getPopulation().size() > 0);
+				Assert.assertEquals(
+					result.getPopulation().size() + result.pending().size(),
+					40
+				);
+				result.getPopulation().forEach(pt ->
+					Assert.assertTrue(pt.isEvaluated())
+				);
+				result.pending().forEach(pt ->
+					Assert.assertTrue(
+						result.getGeneration() - pt.generation < 2
+					)
+				);
+			}
+			Assert.assertTrue(
+				results.stream().anyMatch(r -> !r.pending().isEmpty())
+			);
+
+			final EvolutionResult<DoubleGene, Double> last =
+				engine.evolve(results.get(19).getPopulation(), 21);
+			Assert.assertEquals(last.getPopulation().size(), 40);
+			Assert.assertTrue(last.pending().isEmpty());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void pipelinedBuilder() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.pipelined(3)
+			.executor(Runnable::run)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.builder()
+			.build()
+			.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getPopulation().size(), 50);
+	}
+
+	@Test
+	public void serialEvolveForSmallPopulations() {
+		final Thread caller = Thread.currentThread();
+		final AtomicInteger foreign = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.offspringSelector((population, count, opt) -> {
+				if (Thread.currentThread() != caller) {
+					foreign.incrementAndGet();
+				}
+				return new TruncationSelector<DoubleGene, Double>()
+					.select(population, count, opt);
+			})
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+		Assert.assertEquals(foreign.get(), 0);
+
+		engine.builder().populationSize(Engine.SERIAL_POPULATION_SIZE + 1).build()
+			.stream().limit(10).forEach(r -> {});
+		Assert.assertEquals(foreign.get(), 10);
+	}
+
+	@Test
+	public void explicitExecutorForSmallPopulations() {
+		final Thread caller = Thread.currentThread();
+		final AtomicInteger foreign = new AtomicInteger();
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+				.populationSize(20)
+				.offspringSelector((population, count, opt) -> {
+					if (Thread.currentThread() != caller) {
+						foreign.incrementAndGet();
+					}
+					return new TruncationSelector<DoubleGene, Double>()
+						.select(population, count, opt);
+				})
+				.executor(executor)
+				.build();
+
+			engine.stream().limit(10).forEach(r -> {});
+			Assert.assertEquals(foreign.get(), 10);
+
+			// The copied builder keeps the explicitly set executor.
+			engine.builder().build().stream().limit(10).forEach(r -> {});
+			Assert.assertEquals(foreign.get(), 20);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void serialAndConcurrentEvolveAreEqual() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(50)
+			.selector(new TruncationSelector<>())
+			.alterers(new Mutator<>(0))
+			.maximalPhenotypeAge(1000)
+			.build();
+
+		final EvolutionStart<DoubleGene, Double> start =
+			engine.iterator().next().next();
+
+		final EvolutionResult<DoubleGene, Double> serial =
+			engine.evolve(start, true);
+		final EvolutionResult<DoubleGene, Double> concurrent =
+			engine.evolve(start, false);
+
+		Assert.assertEquals(serial.getPopulation(), concurrent.getPopulation());
+		Assert.assertEquals(serial.getGeneration(), concurrent.getGeneration());
+		Assert.assertEquals(serial.getAlterCount(), concurrent.getAlterCount());
+		Assert.assertEquals(serial.getKillCount(), concurrent.getKillCount());
+		Assert.assertEquals(serial.getInvalidCount(), concurrent.getInvalidCount());
+		Assert.assertNotNull(serial.getDurations().getEvaluationDuration());
+		Assert.assertNotNull(serial.getDurations().getOffspringSelectionDuration());
+	}
+
+	@Test
+	public void serialExecutor() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(Engine.SERIAL_POPULATION_SIZE*2)
+			.executor(Concurrency.SERIAL_EXECUTOR)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getTotalGenerations(), 10L);
+		Assert.assertEquals(
+			result.getPopulation().size(),
+			Engine.SERIAL_POPULATION_SIZE*2
+		);
+	}
+
+	// Shifts the genes of all offspring out of the valid range [0, 1).
+	@Test
+	public void evaluationTimeout() throws Exception {
+		final AtomicInteger hanging = new AtomicInteger();
+		final AtomicInteger interrupted = new AtomicInteger();
+		final AtomicInteger timedOut = new AtomicInteger();
+
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> hanging(gt, hanging, interrupted),
+					DoubleChromosome.of(0, 1))
+				.populationSize(20)
+				.evaluationTimeout(Duration.ofMillis(50))
+				.timeoutFitness(-1.0)
+				.metricsListener(new MetricsListener() {
+					@Override
+					public void timedOut(final long generation, final int count) {
+						timedOut.addAndGet(count);
+					}
+				})
+				.executor(executor)
+				.build();
+
+			final long start = System.nanoTime();
+			final List<EvolutionResult<DoubleGene, Double>> results =
+				engine.stream().limit(3).collect(toList());
+			Assert.assertTrue(System.nanoTime() - start < 5_000_000_000L);
+
+			Assert.assertTrue(timedOut.get() > 0);
+			for (EvolutionResult<DoubleGene, Double> result : results) {
+				result.getPopulation().forEach(pt -> Assert.assertEquals(
+					pt.getFitness() == -1.0,
+					pt.getGenotype().getGene().getAllele() > 0.5
+				));
+			}
+
+			awaitCount(interrupted, hanging);
+			Assert.assertEquals(interrupted.get(), timedOut.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void evaluationDeadline() throws Exception {
+		final AtomicInteger hanging = new AtomicInteger();
+		final AtomicInteger interrupted = new AtomicInteger();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> hanging(gt, hanging, interrupted),
+					DoubleChromosome.of(0, 1))
+				.populationSize(20)
+				.evaluationDeadline(Duration.ofMillis(100))
+				.timeoutFitness(-1.0)
+				.executor(executor)
+				.build();
+
+			final long start = System.nanoTime();
+			final List<EvolutionResult<DoubleGene, Double>> results =
+				engine.stream().limit(3).collect(toList());
+			Assert.assertTrue(System.nanoTime() - start < 5_000_000_000L);
+
+			for (EvolutionResult<DoubleGene, Double> result : results) {
+				result.getPopulation().forEach(pt -> Assert.assertTrue(
+					pt.getFitness() == -1.0 ||
+					pt.getFitness().equals(pt.getGenotype().getGene().getAllele())
+				));
+			}
+			awaitCount(interrupted, hanging);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void evaluationExecutor() {
+		final Set<String> threads = ConcurrentHashMap.newKeySet();
+		final ExecutorService evaluation = Executors.newSingleThreadExecutor(
+			r -> new Thread(r, "evaluation")
+		);
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> {
+						threads.add(Thread.currentThread().getName());
+						return gt.getGene().getAllele();
+					},
+					DoubleChromosome.of(0, 1))
+				.populationSize(500)
+				.executor(ForkJoinPool.commonPool())
+				.evaluationExecutor(evaluation)
+				.build();
+
+			final EvolutionResult<DoubleGene, Double> result = engine.stream()
+				.limit(3)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(threads, Collections.singleton("evaluation"));
+			Assert.assertNotNull(
+				result.getDurations().getQueueWait(Stage.EVALUATION)
+			);
+		} finally {
+			evaluation.shutdownNow();
+		}
+	}
+
+	@Test
+	public void evaluationQueueWait() throws Exception {
+		final ExecutorService evaluation = Executors.newSingleThreadExecutor();
+		final CountDownLatch blocked = new CountDownLatch(1);
+
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+				.populationSize(50)
+				.evaluationExecutor(evaluation)
+				.build();
+			final EvolutionStart<DoubleGene, Double> start =
+				engine.evolutionStart();
+
+			// Block the evaluation executor for 200 ms.
+			evaluation.execute(() -> {
+				blocked.countDown();
+				LockSupport.parkNanos(200_000_000L);
+			});
+			blocked.await();
+
+			final EvolutionDurations durations =
+				engine.evolve(start).getDurations();
+
+			Assert.assertTrue(
+				durations.getQueueWait(Stage.EVALUATION)
+					.compareTo(Duration.ofMillis(100)) > 0,
+				durations.getQueueWait(Stage.EVALUATION).toString()
+			);
+			Assert.assertEquals(
+				durations.getQueueWait(Stage.OFFSPRING_SELECTION),
+				Duration.ZERO
+			);
+		} finally {
+			evaluation.shutdownNow();
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evaluationTimeoutWithoutFitness() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.evaluationTimeout(Duration.ofMillis(100))
+			.build();
+	}
+
+	@Test
+	public void builderKeepsEvaluationOptions() {
+		final AtomicInteger batches = new AtomicInteger();
+		final AtomicInteger executions = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(
+				gts -> {
+					batches.incrementAndGet();
+					return gts.stream()
+						.map(gt -> gt.getGene().getAllele())
+						.collect(toList());
+				},
+				5)
+			.evaluationExecutor(task -> {
+				executions.incrementAndGet();
+				task.run();
+			})
+			.fitnessCache(100, 10)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.builder()
+			.populationSize(20)
+			.build()
+			.stream()
+			.limit(3)
+			.reduce((a, b) -> b)
+			.get();
+
+		Assert.assertTrue(batches.get() > 0);
+		Assert.assertTrue(executions.get() > 0);
+		Assert.assertTrue(
+			result.getCacheHitCount() + result.getCacheMissCount() > 0
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evaluationTimeoutWithBatchFunction() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.batchFitnessFunction(
+				gts -> gts.stream()
+					.map(gt -> gt.getGene().getAllele())
+					.collect(toList()),
+				10)
+			.evaluationTimeout(Duration.ofMillis(100))
+			.timeoutFitness(0.0)
+			.build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evaluationDeadlineWithAsyncFunction() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.asyncFitnessFunction(
+				gt -> CompletableFuture.completedFuture(gt.getGene().getAllele()),
+				10)
+			.evaluationDeadline(Duration.ofMillis(100))
+			.timeoutFitness(0.0)
+			.build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evaluationDeadlinePipelined() {
+		Engine.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.pipelined(2)
+			.evaluationDeadline(Duration.ofMillis(100))
+			.timeoutFitness(0.0)
+			.build();
+	}
+
+	@Test
+	public void evaluationTimeoutPipelined() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.pipelined(2)
+			.evaluationTimeout(Duration.ofMillis(100))
+			.timeoutFitness(0.0)
+			.build();
+
+		Assert.assertEquals(engine.stream().limit(3).count(), 3L);
+	}
+
+	@Test
+	public void cancelPendingEvaluationsOnLimit() throws Exception {
+		final AtomicInteger hanging = new AtomicInteger();
+		final AtomicInteger interrupted = new AtomicInteger();
+
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		try {
+			final Engine<DoubleGene, Double> engine = Engine
+				.builder(
+					gt -> hanging(gt, hanging, interrupted),
+					DoubleChromosome.of(0, 1))
+				.populationSize(20)
+				.alterers(new Mutator<>(0.5))
+				.pipelined(1000)
+				.executor(executor)
+				.build();
+
+			// Only the evaluations of the mutated offspring might hang.
+			final List<Genotype<DoubleGene>> genotypes = Collections.nCopies(
+				20, Genotype.of(DoubleChromosome.of(DoubleGene.of(0.25, 0, 1)))
+			);
+
+			final long start = System.nanoTime();
+			final List<EvolutionResult<DoubleGene, Double>> results =
+				engine.stream(genotypes)
+					.limit(3)
+					.collect(toList());
+
+			Assert.assertEquals(results.size(), 3);
+			Assert.assertTrue(hanging.get() > 0);
+			awaitCount(interrupted, hanging);
+			Assert.assertTrue(System.nanoTime() - start < 5_000_000_000L);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// Fitness function which hangs for values greater than 0.5, until it is
+	// interrupted.
+	private static Double hanging(
+		final Genotype<DoubleGene> gt,
+		final AtomicInteger hanging,
+		final AtomicInteger interrupted
+	) {
+		final double value = gt.getGene().getAllele();
+		if (value > 0.5) {
+			hanging.incrementAndGet();
+
+			final long end = System.nanoTime() + 10_000_000_000L;
+			while (System.nanoTime() < end) {
+				LockSupport.parkNanos(5_000_000);
+				if (Thread.currentThread().isInterrupted()) {
+					interrupted.incrementAndGet();
+					break;
+				}
+			}
+		}
+		return value;
+	}
+
+	private static void awaitCount(
+		final AtomicInteger actual,
+		final AtomicInteger expected
+	)
+		throws InterruptedException
+	{
+		final long end = System.nanoTime() + 2_000_000_000L;
+		while (actual.get() != expected.get() && System.nanoTime() < end) {
+			Thread.sleep(10);
+		}
+		Assert.assertEquals(actual.get(), expected.get());
+	}
+
+	// Replaces all individuals by new, not evaluated, individuals with equal
+	// genotypes.
+	private static int constant(
+		final Population<DoubleGene, Double> population,
+		final long generation
+	) {
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<DoubleGene, Double> pt = population.get(i);
+			population.set(i, Phenotype.of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(0.5, 0, 1))),
+				generation,
+				pt.getFitnessFunction(),
+				pt.getFitnessScaler()
+			));
+		}
+		return population.size();
+	}
+
+	private static int invalidate(
+		final Population<DoubleGene, Double> population,
+		final long generation
+	) {
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<DoubleGene, Double> pt = population.get(i);
+			final double value = pt.getGenotype().getGene().getAllele();
+			population.set(i, Phenotype.of(
+				Genotype.of(DoubleChromosome.of(DoubleGene.of(value + 2, 0, 1))),
+				generation,
+				pt.getFitnessFunction(),
+				pt.getFitnessScaler()
+			));
+		}
+		return population.size();
+	}
+
+	private static Genotype<DoubleGene> repair(final Genotype<DoubleGene> gt) {
+		final double value = gt.getGene().getAllele();
+		return Genotype.of(DoubleChromosome.of(DoubleGene.of(value - 2, 0, 1)));
+	}
+
+	@Test
+	public void repairInvalidIndividuals() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.alterers(EngineTest::invalidate)
+			.repairer(EngineTest::repair)
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Double>> results = engine.stream()
+			.limit(10)
+			.collect(toList());
+
+		for (EvolutionResult<DoubleGene, Double> result : results) {
+			Assert.assertEquals(result.getInvalidCount(), engine.getOffspringCount());
+			Assert.assertEquals(result.getRepairCount(), result.getInvalidCount());
+			Assert.assertTrue(result.getPopulation().stream()
+				.allMatch(Phenotype::isValid));
+		}
+	}
+
+	@Test
+	public void replaceInvalidIndividuals() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.alterers(EngineTest::invalidate)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.stream().limit(1).findFirst().get();
+
+		Assert.assertEquals(result.getInvalidCount(), engine.getOffspringCount());
+		Assert.assertEquals(result.getRepairCount(), 0);
+		Assert.assertTrue(result.getPopulation().stream()
+			.allMatch(Phenotype::isValid));
+	}
+
+	@Test
+	public void failedRepair() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.alterers(EngineTest::invalidate)
+			.repairer(gt -> gt)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.stream().limit(1).findFirst().get();
+
+		Assert.assertEquals(result.getInvalidCount(), engine.getOffspringCount());
+		Assert.assertEquals(result.getRepairCount(), 0);
+		Assert.assertTrue(result.getPopulation().stream()
+			.allMatch(Phenotype::isValid));
+	}
+
 }
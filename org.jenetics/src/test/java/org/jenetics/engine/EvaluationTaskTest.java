@@ -0,0 +1,135 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Phenotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class EvaluationTaskTest {
+
+	private static Phenotype<DoubleGene, Double> phenotype() {
+		return Phenotype.of(
+			Genotype.of(DoubleChromosome.of(0, 1)),
+			1,
+			gt -> gt.getGene().getAllele()
+		);
+	}
+
+	@Test
+	public void evaluate() {
+		final Phenotype<DoubleGene, Double> pt = phenotype();
+		final EvaluationTask<DoubleGene, Double> task =
+			new EvaluationTask<>(pt, pt);
+
+		Assert.assertEquals(task.started(), -1L);
+		task.run();
+
+		Assert.assertTrue(task.started() != -1);
+		Assert.assertSame(task.join(), pt);
+		Assert.assertTrue(pt.isEvaluated());
+	}
+
+	@Test
+	public void cancelNotStarted() {
+		final Phenotype<DoubleGene, Double> pt = phenotype();
+		final EvaluationTask<DoubleGene, Double> task =
+			new EvaluationTask<>(pt, pt);
+
+		Assert.assertTrue(task.cancel(true));
+		task.run();
+
+		Assert.assertEquals(task.started(), -1L);
+		Assert.assertFalse(pt.isEvaluated());
+	}
+
+	@Test(expectedExceptions = CancellationException.class)
+	public void cancelRunning() throws Exception {
+		final CountDownLatch running = new CountDownLatch(1);
+		final AtomicBoolean interrupted = new AtomicBoolean(false);
+		final AtomicBoolean cleared = new AtomicBoolean(false);
+
+		final Phenotype<DoubleGene, Double> pt = phenotype();
+		final EvaluationTask<DoubleGene, Double> task = new EvaluationTask<>(
+			pt,
+			() -> {
+				running.countDown();
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					interrupted.set(true);
+					Thread.currentThread().interrupt();
+				}
+			}
+		);
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.execute(task);
+			running.await();
+			Assert.assertTrue(task.cancel(true));
+
+			// The interrupt must not leak to the next task.
+			executor.submit(() ->
+				cleared.set(!Thread.currentThread().isInterrupted())
+			).get();
+			Assert.assertTrue(interrupted.get());
+			Assert.assertTrue(cleared.get());
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.SECONDS);
+		}
+
+		task.join();
+	}
+
+	@Test
+	public void failingEvaluation() {
+		final AtomicInteger calls = new AtomicInteger();
+		final EvaluationTask<DoubleGene, Double> task = new EvaluationTask<>(
+			phenotype(),
+			() -> {
+				calls.incrementAndGet();
+				throw new IllegalStateException();
+			}
+		);
+		task.run();
+
+		Assert.assertEquals(calls.get(), 1);
+		Assert.assertTrue(task.isCompletedExceptionally());
+	}
+
+}
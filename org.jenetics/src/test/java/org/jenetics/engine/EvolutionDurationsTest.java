@@ -20,8 +20,15 @@
 package org.jenetics.engine;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Random;
 
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.engine.MetricsListener.Stage;
 import org.jenetics.util.Factory;
 import org.jenetics.util.ObjectTester;
 import org.jenetics.util.RandomRegistry;
@@ -44,8 +51,43 @@ public class EvolutionDurationsTest extends ObjectTester<EvolutionDurations> {
 				Duration.ofMillis(random.nextInt(1_000_000)),
 				Duration.ofMillis(random.nextInt(1_000_000)),
 				Duration.ofMillis(random.nextInt(1_000_000)),
-				Duration.ofMillis(random.nextInt(1_000_000))
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Collections.singletonMap(
+					Stage.EVALUATION,
+					Duration.ofMillis(random.nextInt(1_000_000))
+				)
 			);
 		};
 	}
+
+	@Test
+	public void queueWaits() {
+		final Map<Stage, Duration> waits = new EnumMap<>(Stage.class);
+		waits.put(Stage.OFFSPRING_ALTER, Duration.ofMillis(3));
+		waits.put(Stage.EVALUATION, Duration.ofMillis(7));
+
+		final EvolutionDurations durations = EvolutionDurations.of(
+			Duration.ZERO,
+			Duration.ZERO,
+			Duration.ZERO,
+			Duration.ZERO,
+			Duration.ZERO,
+			Duration.ZERO,
+			Duration.ZERO,
+			waits
+		);
+
+		for (Stage stage : Stage.values()) {
+			Assert.assertEquals(
+				durations.getQueueWait(stage),
+				waits.getOrDefault(stage, Duration.ZERO)
+			);
+		}
+		Assert.assertEquals(
+			EvolutionDurations.ZERO.getQueueWait(Stage.EVALUATION),
+			Duration.ZERO
+		);
+		Assert.assertNotEquals(durations, EvolutionDurations.ZERO);
+	}
+
 }
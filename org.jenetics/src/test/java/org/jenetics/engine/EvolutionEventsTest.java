@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Mutator;
+import org.jenetics.SinglePointCrossover;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class EvolutionEventsTest {
+
+	// The recording is global; only the events with this population size are
+	// taken into account, since other tests may evolve concurrently. The
+	// alter events are reporting the size of the offspring population.
+	private static final int POPULATION_SIZE = 37;
+
+	// The JFR events are optional and not available on every Java 8 runtime.
+	@BeforeMethod
+	public void available() {
+		if (!EvolutionEvents.AVAILABLE) {
+			throw new SkipException("JFR evolution events are not available.");
+		}
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder(
+		final LongAdder evaluations
+	) {
+		return Engine
+			.builder(
+				gt -> {
+					evaluations.increment();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(POPULATION_SIZE)
+			.alterers(new SinglePointCrossover<>(0.2), new Mutator<>(0.5));
+	}
+
+	private static Map<String, List<RecordedEvent>> record(
+		final Engine<DoubleGene, Double> engine,
+		final int generations,
+		final List<EvolutionResult<DoubleGene, Double>> results
+	)
+		throws IOException
+	{
+		final Path file = Files.createTempFile("jenetics-", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.jenetics.Evolve");
+			recording.enable("org.jenetics.Evaluate");
+			recording.enable("org.jenetics.Select");
+			recording.enable("org.jenetics.Alter");
+			recording.start();
+
+			engine.stream().limit(generations).forEach(results::add);
+
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file).stream()
+				.filter(e -> e.getEventType().getName().startsWith("org.jenetics."))
+				.filter(e -> e.getInt("populationSize") ==
+					(e.getEventType().getName().equals("org.jenetics.Alter") ?
+						engine.getOffspringCount() :
+						POPULATION_SIZE))
+				.collect(groupingBy(e -> e.getEventType().getName(), toList()));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	@Test
+	public void events() throws IOException {
+		final Engine<DoubleGene, Double> engine =
+			builder(new LongAdder()).build();
+		final Map<String, List<RecordedEvent>> events =
+			record(engine, 5, new ArrayList<>());
+
+		Assert.assertEquals(events.get("org.jenetics.Evolve").size(), 5);
+		Assert.assertEquals(events.get("org.jenetics.Evaluate").size(), 5);
+		Assert.assertEquals(events.get("org.jenetics.Select").size(), 10);
+		Assert.assertEquals(events.get("org.jenetics.Alter").size(), 10);
+
+		final RecordedEvent evolve = events.get("org.jenetics.Evolve").get(0);
+		Assert.assertTrue(evolve.getLong("generation") >= 1);
+		Assert.assertFalse(evolve.getDuration().isNegative());
+
+		Assert.assertTrue(events.get("org.jenetics.Alter").stream()
+			.anyMatch(e -> Mutator.class.getName()
+				.equals(e.getClass("alterer").getName())));
+	}
+
+	@Test
+	public void evaluateEventCounts() throws IOException {
+		final LongAdder evaluations = new LongAdder();
+		final Engine<DoubleGene, Double> engine = builder(evaluations).build();
+
+		// The initial population is evaluated outside of an evolution step.
+		final List<EvolutionResult<DoubleGene, Double>> results = new ArrayList<>();
+		final Map<String, List<RecordedEvent>> events =
+			record(engine, 5, results);
+
+		final List<RecordedEvent> evaluate = events.get("org.jenetics.Evaluate");
+		Assert.assertEquals(evaluate.size(), 5);
+		Assert.assertEquals(
+			evaluate.stream().mapToLong(e -> e.getInt("evaluationCount")).sum(),
+			evaluations.sum() - POPULATION_SIZE
+		);
+		Assert.assertTrue(evaluate.stream()
+			.allMatch(e -> e.getInt("cacheHitCount") == 0));
+	}
+
+	@Test
+	public void evaluateEventCacheHits() throws IOException {
+		final LongAdder evaluations = new LongAdder();
+		final Engine<DoubleGene, Double> engine = builder(evaluations)
+			.fitnessCache(1000, 100)
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Double>> results = new ArrayList<>();
+		final Map<String, List<RecordedEvent>> events =
+			record(engine, 10, results);
+
+		final List<RecordedEvent> evaluate = events.get("org.jenetics.Evaluate");
+		Assert.assertEquals(evaluate.size(), 10);
+		Assert.assertEquals(
+			evaluate.stream().mapToLong(e -> e.getInt("evaluationCount")).sum(),
+			evaluations.sum() - POPULATION_SIZE
+		);
+		Assert.assertEquals(
+			evaluate.stream().mapToLong(e -> e.getInt("cacheHitCount")).sum(),
+			results.stream().mapToLong(EvolutionResult::getCacheHitCount).sum()
+		);
+	}
+
+	@Test
+	public void disabledEvents() throws IOException {
+		final Engine<DoubleGene, Double> engine =
+			builder(new LongAdder()).build();
+
+		final Path file = Files.createTempFile("jenetics-", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.disable("org.jenetics.Evolve");
+			recording.start();
+
+			engine.stream().limit(5).forEach(r -> {});
+
+			recording.stop();
+			recording.dump(file);
+
+			Assert.assertTrue(RecordingFile.readAllEvents(file).stream()
+				.noneMatch(e -> e.getEventType().getName()
+					.equals("org.jenetics.Evolve")));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
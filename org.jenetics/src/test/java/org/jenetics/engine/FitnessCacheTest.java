@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class FitnessCacheTest {
+
+	private static final Genotype<DoubleGene> GENOTYPE =
+		Genotype.of(DoubleChromosome.of(0, 1, 10));
+
+	@Test
+	public void getPut() {
+		final FitnessCache<DoubleGene, Double> cache = new FitnessCache<>(10, 5);
+		final Genotype<DoubleGene> gt = GENOTYPE.newInstance();
+
+		Assert.assertNull(cache.get(gt));
+		cache.put(gt, 3.0);
+		Assert.assertEquals(cache.get(gt), 3.0);
+		Assert.assertEquals(cache.get(Genotype.of(gt)), 3.0);
+		Assert.assertEquals(cache.size(), 1);
+	}
+
+	@Test
+	public void maxSize() {
+		final FitnessCache<DoubleGene, Double> cache = new FitnessCache<>(10, 100);
+		final Genotype<DoubleGene> first = GENOTYPE.newInstance();
+		cache.put(first, 0.0);
+
+		for (int i = 1; i < 20; ++i) {
+			cache.put(GENOTYPE.newInstance(), (double)i);
+			Assert.assertTrue(cache.size() <= 10);
+		}
+
+		Assert.assertEquals(cache.size(), 10);
+		Assert.assertNull(cache.get(first));
+	}
+
+	@Test
+	public void leastRecentlyUsed() {
+		final FitnessCache<DoubleGene, Double> cache = new FitnessCache<>(2, 100);
+		final Genotype<DoubleGene> gt1 = GENOTYPE.newInstance();
+		final Genotype<DoubleGene> gt2 = GENOTYPE.newInstance();
+		final Genotype<DoubleGene> gt3 = GENOTYPE.newInstance();
+
+		cache.put(gt1, 1.0);
+		cache.put(gt2, 2.0);
+		cache.get(gt1);
+		cache.put(gt3, 3.0);
+
+		Assert.assertEquals(cache.get(gt1), 1.0);
+		Assert.assertNull(cache.get(gt2));
+		Assert.assertEquals(cache.get(gt3), 3.0);
+	}
+
+	@Test
+	public void evict() {
+		final FitnessCache<DoubleGene, Double> cache = new FitnessCache<>(100, 5);
+		final Genotype<DoubleGene> gt1 = GENOTYPE.newInstance();
+		final Genotype<DoubleGene> gt2 = GENOTYPE.newInstance();
+
+		cache.put(gt1, 1.0);
+		cache.put(gt2, 2.0);
+		for (int i = 0; i < 5; ++i) {
+			Assert.assertEquals(cache.evict(), 0);
+		}
+
+		cache.get(gt2);
+		Assert.assertEquals(cache.evict(), 1);
+		Assert.assertNull(cache.get(gt1));
+		Assert.assertEquals(cache.get(gt2), 2.0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalSize() {
+		new FitnessCache<DoubleGene, Double>(0, 10);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void illegalAge() {
+		new FitnessCache<DoubleGene, Double>(10, 0);
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Optimize;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class IslandEngineTest {
+
+	private static Engine<DoubleGene, Double> engine(final int size) {
+		return Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(size)
+			.executor(Runnable::run)
+			.build();
+	}
+
+	@Test
+	public void generationCount() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(engine(20), 4)
+			.migrationInterval(3)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(25)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getTotalGenerations(), 25L);
+		Assert.assertEquals(result.getPopulation().size(), 80);
+	}
+
+	@Test
+	public void mergedPopulation() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(Arrays.asList(engine(10), engine(20), engine(30)))
+			.topology(IslandEngine.Topology.FULLY_CONNECTED)
+			.migrationInterval(1)
+			.migrationCount(3)
+			.build();
+
+		Assert.assertEquals(engine.getPopulationSize(), 60);
+		engine.stream().limit(10).forEach(result -> {
+			Assert.assertEquals(result.getPopulation().size(), 60);
+			result.getPopulation().forEach(pt ->
+				Assert.assertTrue(pt.isEvaluated())
+			);
+		});
+	}
+
+	@Test
+	public void migration() {
+		final IslandEngine<DoubleGene, Double> engine = IslandEngine
+			.builder(engine(10), 2)
+			.migrationInterval(1)
+			.migrationCount(2)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result =
+			engine.iterator().next();
+
+		final List<Double> first = result.getPopulation().subList(0, 10)
+			.stream().map(pt -> pt.getFitness()).collect(Collectors.toList());
+		final List<Double> second = result.getPopulation().subList(10, 20)
+			.stream().map(pt -> pt.getFitness()).collect(Collectors.toList());
+
+		final double best1 = first.stream().mapToDouble(d -> d).max().getAsDouble();
+		final double best2 = second.stream().mapToDouble(d -> d).max().getAsDouble();
+
+		// The best individual of each island has migrated to the other one.
+		Assert.assertEquals(best1, best2);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentOptimize() {
+		final Engine<DoubleGene, Double> minimum = Engine
+			.builder(a -> a.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.optimize(Optimize.MINIMUM)
+			.build();
+
+		IslandEngine.builder(Arrays.asList(engine(10), minimum)).build();
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noIslands() {
+		IslandEngine.builder(engine(10), 0);
+	}
+
+	@Test
+	public void ringTopology() {
+		Assert.assertEquals(
+			IslandEngine.Topology.RING.sources(0, 4).toArray(),
+			new int[]{3}
+		);
+		Assert.assertEquals(
+			IslandEngine.Topology.RING.sources(0, 1).toArray(),
+			new int[0]
+		);
+	}
+
+	@Test
+	public void fullyConnectedTopology() {
+		Assert.assertEquals(
+			IslandEngine.Topology.FULLY_CONNECTED.sources(1, 4).toArray(),
+			new int[]{0, 2, 3}
+		);
+	}
+
+}
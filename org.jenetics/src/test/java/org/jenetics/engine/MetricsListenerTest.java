@@ -0,0 +1,244 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.Alterer;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Mutator;
+import org.jenetics.Selector;
+import org.jenetics.SinglePointCrossover;
+import org.jenetics.engine.MetricsListener.Stage;
+import org.jenetics.stat.LongMomentStatistics;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class MetricsListenerTest {
+
+	private static final class Counter implements MetricsListener {
+		final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+		void inc(final String name, final long value) {
+			counts.computeIfAbsent(name, n -> new LongAdder()).add(value);
+		}
+
+		long get(final String name) {
+			final LongAdder count = counts.get(name);
+			return count != null ? count.sum() : 0;
+		}
+
+		@Override
+		public void queued(
+			final long generation,
+			final Stage stage,
+			final Duration wait
+		) {
+			Assert.assertFalse(wait.isNegative());
+			inc("queued." + stage, 1);
+		}
+
+		@Override
+		public void selected(
+			final long generation,
+			final Stage stage,
+			final Selector<?, ?> selector,
+			final int count,
+			final Duration duration
+		) {
+			inc("selected." + stage, count);
+		}
+
+		@Override
+		public void altered(
+			final long generation,
+			final Alterer<?, ?> alterer,
+			final int alterCount,
+			final Duration duration
+		) {
+			inc("altered." + alterer.getClass().getSimpleName(), 1);
+		}
+
+		@Override
+		public void evaluated(
+			final long generation,
+			final int count,
+			final Duration duration
+		) {
+			inc("evaluated", count);
+			inc("evaluations", 1);
+		}
+
+		@Override
+		public void chunked(
+			final long generation,
+			final LongMomentStatistics chunks
+		) {
+			Assert.assertTrue(chunks.getMin() >= 0);
+			inc("chunked", 1);
+			inc("chunks", chunks.getCount());
+		}
+
+		@Override
+		public void cached(
+			final long generation,
+			final int hits,
+			final int misses
+		) {
+			inc("hits", hits);
+			inc("misses", misses);
+		}
+
+		@Override
+		public void allocated(final long generation, final int count) {
+			inc("allocated", count);
+		}
+
+		@Override
+		public void evolved(
+			final long generation,
+			final EvolutionDurations durations
+		) {
+			inc("evolved", 1);
+		}
+	}
+
+	private static Engine.Builder<DoubleGene, Double> builder() {
+		return Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.offspringFraction(0.5)
+			.alterers(new SinglePointCrossover<>(0.2), new Mutator<>(0.5));
+	}
+
+	@Test
+	public void stages() {
+		final Counter counter = new Counter();
+		final Engine<DoubleGene, Double> engine = builder()
+			.metricsListener(counter)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+
+		for (Stage stage : Stage.values()) {
+			Assert.assertEquals(counter.get("queued." + stage), 10L, stage.name());
+		}
+		Assert.assertEquals(counter.get("selected.OFFSPRING_SELECTION"), 100L);
+		Assert.assertEquals(counter.get("selected.SURVIVORS_SELECTION"), 100L);
+		Assert.assertEquals(counter.get("altered.SinglePointCrossover"), 10L);
+		Assert.assertEquals(counter.get("altered.Mutator"), 10L);
+		Assert.assertEquals(counter.get("evolved"), 10L);
+		Assert.assertEquals(counter.get("hits"), 0L);
+		Assert.assertTrue(counter.get("evaluated") > 0);
+		Assert.assertTrue(counter.get("allocated") >= counter.get("evaluated") - 20);
+	}
+
+	@Test
+	public void evaluations() {
+		final LongAdder calls = new LongAdder();
+		final Counter counter = new Counter();
+		final Engine<DoubleGene, Double> engine = builder()
+			.fitnessFunction(gt -> {
+				calls.increment();
+				return gt.getGene().getAllele();
+			})
+			.metricsListener(counter)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+
+		Assert.assertEquals(counter.get("evaluated"), calls.sum());
+		Assert.assertEquals(counter.get("evaluations"), calls.sum());
+	}
+
+	@Test
+	public void chunks() {
+		final Counter counter = new Counter();
+		final Engine<DoubleGene, Double> engine = builder()
+			.metricsListener(counter)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+
+		// The initial population is evaluated outside of an evolution step.
+		Assert.assertTrue(counter.get("chunked") > 0);
+		Assert.assertTrue(counter.get("chunked") <= 11);
+		Assert.assertTrue(counter.get("chunks") >= counter.get("chunked"));
+	}
+
+	@Test
+	public void batchEvaluations() {
+		final Counter counter = new Counter();
+		final Engine<DoubleGene, Double> engine = builder()
+			.batchFitnessFunction(gts -> gts.stream()
+				.map(gt -> gt.getGene().getAllele())
+				.collect(Collectors.toList()), 5)
+			.metricsListener(counter)
+			.build();
+
+		engine.stream().limit(10).forEach(r -> {});
+
+		Assert.assertTrue(counter.get("evaluated") >= counter.get("evaluations"));
+		Assert.assertTrue(counter.get("evaluations") > 0);
+	}
+
+	@Test
+	public void cacheHits() {
+		final Counter counter = new Counter();
+		final Engine<DoubleGene, Double> engine = builder()
+			.fitnessCache(100, 10)
+			.metricsListener(counter)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = engine.stream()
+			.limit(10)
+			.reduce((a, b) -> b)
+			.get();
+
+		Assert.assertTrue(counter.get("hits") + counter.get("misses") > 0);
+		// The initial population is evaluated outside of an evolution step.
+		Assert.assertEquals(counter.get("misses") + 20, counter.get("evaluated"));
+		Assert.assertEquals(result.getCacheHitCount() >= 0, true);
+	}
+
+	@Test
+	public void copiedByBuilder() {
+		final Counter counter = new Counter();
+		final Engine<DoubleGene, Double> engine = builder()
+			.metricsListener(counter)
+			.build()
+			.builder()
+			.build();
+
+		engine.stream().limit(3).forEach(r -> {});
+		Assert.assertEquals(counter.get("evolved"), 3L);
+	}
+
+}
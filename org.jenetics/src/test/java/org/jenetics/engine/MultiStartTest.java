@@ -0,0 +1,117 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import static org.jenetics.engine.EvolutionResult.toBestEvolutionResult;
+import static org.jenetics.engine.EvolutionResult.toBestPhenotype;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Phenotype;
+import org.jenetics.stat.DoubleMomentStatistics;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class MultiStartTest {
+
+	private static final Engine<DoubleGene, Double> ENGINE = Engine
+		.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+		.populationSize(20)
+		.build();
+
+	@Test
+	public void reproducible() {
+		final List<Phenotype<DoubleGene, Double>> results1 = MultiStart
+			.builder(ENGINE, 8)
+			.seed(123)
+			.build()
+			.run(stream -> stream.limit(20).collect(toBestPhenotype()));
+
+		final List<Phenotype<DoubleGene, Double>> results2 = MultiStart
+			.builder(ENGINE, 8)
+			.seed(123)
+			.build()
+			.run(stream -> stream.limit(20).collect(toBestPhenotype()));
+
+		Assert.assertEquals(results1.size(), 8);
+		Assert.assertEquals(results1, results2);
+	}
+
+	@Test
+	public void independentRuns() {
+		final List<Phenotype<DoubleGene, Double>> results = MultiStart
+			.builder(ENGINE, 8)
+			.seed(123)
+			.build()
+			.run(stream -> stream.limit(1).collect(toBestPhenotype()));
+
+		Assert.assertEquals(results.stream().distinct().count(), 8L);
+	}
+
+	@Test
+	public void bestOfAll() {
+		final MultiStart<DoubleGene, Double> multiStart = MultiStart
+			.builder(ENGINE, 4)
+			.seed(456)
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Double>> results =
+			multiStart.run(stream -> stream
+				.limit(10)
+				.collect(toBestEvolutionResult()));
+
+		final EvolutionResult<DoubleGene, Double> best = multiStart.run(
+			stream -> stream.limit(10).collect(toBestEvolutionResult()),
+			toBestEvolutionResult()
+		);
+
+		Assert.assertEquals(
+			best.getBestFitness(),
+			results.stream()
+				.mapToDouble(EvolutionResult::getBestFitness)
+				.max().getAsDouble()
+		);
+	}
+
+	@Test
+	public void statisticsPerRun() {
+		final List<EvolutionStatistics<Double, DoubleMomentStatistics>>
+		statistics = MultiStart.builder(ENGINE, 3).build()
+			.run(stream -> {
+				final EvolutionStatistics<Double, DoubleMomentStatistics>
+					s = EvolutionStatistics.ofNumber();
+				stream.limit(15).forEach(s);
+				return s;
+			});
+
+		Assert.assertEquals(statistics.size(), 3);
+		statistics.forEach(s ->
+			Assert.assertEquals(s.getAltered().getCount(), 15L)
+		);
+	}
+
+}
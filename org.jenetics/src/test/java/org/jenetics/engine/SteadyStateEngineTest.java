@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.engine;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.Alterer;
+import org.jenetics.DoubleChromosome;
+import org.jenetics.DoubleGene;
+import org.jenetics.Genotype;
+import org.jenetics.Optimize;
+import org.jenetics.Phenotype;
+import org.jenetics.Population;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class SteadyStateEngineTest {
+
+	@Test(dataProvider = "replacements")
+	public void insertionCount(final SteadyStateEngine.Replacement replacement) {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		final EvolutionResult<DoubleGene, Double> result = SteadyStateEngine
+			.builder(engine)
+			.replacement(replacement)
+			.reportInterval(10)
+			.workers(4)
+			.build()
+			.stream()
+			.limit(50)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.getTotalGenerations(), 50L);
+		Assert.assertEquals(result.getPopulation().size(), 20);
+
+		// Every evaluated offspring is inserted. The workers are paused if
+		// MAX_QUEUED_RESULTS results are waiting for being consumed.
+		final int max = (50 + SteadyStateEngine.MAX_QUEUED_RESULTS + 1)*10 + 4*2;
+		Assert.assertTrue(count.get() > 20);
+		Assert.assertTrue(count.get() <= 20 + max, "" + count.get());
+	}
+
+	@Test
+	public void workersRunContinuously() throws InterruptedException {
+		final AtomicInteger count = new AtomicInteger();
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					count.incrementAndGet();
+					return gt.getGene().getAllele();
+				},
+				DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		final Iterator<EvolutionResult<DoubleGene, Double>> it = SteadyStateEngine
+			.builder(engine)
+			.reportInterval(10)
+			.workers(2)
+			.build()
+			.iterator();
+
+		// The workers must make progress while the consumer is busy.
+		boolean progress = false;
+		for (int i = 0; i < 20 && !progress; ++i) {
+			it.next();
+			final int evaluations = count.get();
+			Thread.sleep(20);
+			progress = count.get() > evaluations;
+		}
+
+		Assert.assertTrue(progress);
+	}
+
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void invalidOffspring() {
+		final Alterer<DoubleGene, Double> invalidator = (population, generation) -> {
+			for (int i = 0; i < population.size(); ++i) {
+				population.set(i, Phenotype.of(
+					Genotype.of(DoubleChromosome.of(DoubleGene.of(2, 0, 1))),
+					generation,
+					gt -> gt.getGene().getAllele()
+				));
+			}
+			return population.size();
+		};
+
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.alterers(invalidator)
+			.build();
+
+		SteadyStateEngine.builder(engine)
+			.workers(2)
+			.build()
+			.stream()
+			.limit(2)
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void defaultReportInterval() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(30)
+			.build();
+
+		Assert.assertEquals(
+			SteadyStateEngine.builder(engine).build().getReportInterval(),
+			30
+		);
+	}
+
+	@DataProvider(name = "replacements")
+	public Object[][] replacements() {
+		return new Object[][] {
+			{SteadyStateEngine.Replacement.WORST},
+			{SteadyStateEngine.Replacement.OLDEST},
+			{SteadyStateEngine.Replacement.RANDOM}
+		};
+	}
+
+	@Test
+	public void replaceWorstConverges() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.getGene().getAllele(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Double>> results = SteadyStateEngine
+			.builder(engine)
+			.workers(1)
+			.build()
+			.stream()
+			.limit(500)
+			.collect(Collectors.toList());
+
+		// The worst fitness of a single result is dominated by mutated
+		// outliers; the mean fitness of the population is more robust.
+		final double start = meanFitness(results.get(0));
+		final double end = results.subList(450, 500).stream()
+			.mapToDouble(SteadyStateEngineTest::meanFitness)
+			.average()
+			.getAsDouble();
+
+		Assert.assertTrue(end >= start, end + " < " + start);
+	}
+
+	private static double
+	meanFitness(final EvolutionResult<DoubleGene, Double> result) {
+		return result.getPopulation().stream()
+			.mapToDouble(Phenotype::getFitness)
+			.average()
+			.getAsDouble();
+	}
+
+	@Test
+	public void replacementIndex() {
+		final Population<DoubleGene, Double> population = new Population<>();
+		for (int i = 0; i < 10; ++i) {
+			final double fitness = i == 3 ? 0.0 : i + 1;
+			population.add(Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				10 - i,
+				gt -> fitness
+			));
+		}
+
+		Assert.assertEquals(
+			SteadyStateEngine.Replacement.WORST
+				.index(population, Optimize.MAXIMUM),
+			3
+		);
+		Assert.assertEquals(
+			SteadyStateEngine.Replacement.WORST
+				.index(population, Optimize.MINIMUM),
+			9
+		);
+		Assert.assertEquals(
+			SteadyStateEngine.Replacement.OLDEST
+				.index(population, Optimize.MAXIMUM),
+			9
+		);
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.math;
+
+import static org.jenetics.internal.math.arithmetic.normalize;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import org.jenetics.util.LCG64ShiftRandom;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class AliasTableTest {
+
+	@Test(dataProvider = "sizes")
+	public void sampleDistribution(final Integer size) {
+		final Random random = new LCG64ShiftRandom(size);
+		final double[] probabilities = new double[size];
+		for (int i = 0; i < size; ++i) {
+			probabilities[i] = random.nextDouble()*random.nextDouble();
+		}
+		normalize(probabilities);
+
+		final AliasTable table = AliasTable.of(probabilities);
+		Assert.assertEquals(table.size(), (int)size);
+
+		final int samples = 200_000*size;
+		final int[] histogram = new int[size];
+		for (int i = 0; i < samples; ++i) {
+			++histogram[table.sample(random)];
+		}
+
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(
+				histogram[i]/(double)samples,
+				probabilities[i],
+				0.002,
+				"Index " + i
+			);
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {{1}, {2}, {3}, {10}, {50}};
+	}
+
+	@Test
+	public void zeroProbability() {
+		final AliasTable table = AliasTable.of(new double[]{0.5, 0, 0.25, 0, 0.25});
+
+		final Random random = new LCG64ShiftRandom(7);
+		for (int i = 0; i < 100_000; ++i) {
+			final int index = table.sample(random);
+			Assert.assertNotEquals(index, 1);
+			Assert.assertNotEquals(index, 3);
+		}
+	}
+
+	@Test
+	public void singleIndex() {
+		final AliasTable table = AliasTable.of(new double[]{0, 0, 1, 0});
+
+		final Random random = new LCG64ShiftRandom(7);
+		for (int i = 0; i < 1000; ++i) {
+			Assert.assertEquals(table.sample(random), 2);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void empty() {
+		AliasTable.of(new double[0]);
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmx.at)
+ */
+package org.jenetics.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmx.at">Franz Wilhelmstötter</a>
+ * @version <em>$Date: 2014-12-28 $</em>
+ */
+public class ConcurrencyTest {
+
+	private static final ExecutorService SERVICE =
+		Executors.newFixedThreadPool(4, runnable -> {
+			final Thread thread = new Thread(runnable);
+			thread.setDaemon(true);
+			return thread;
+		});
+
+	@Test(dataProvider = "executors")
+	public void executeAll(final Executor executor, final Integer size) {
+		final AtomicIntegerArray counts = new AtomicIntegerArray(size);
+		final List<Runnable> runnables = new ArrayList<>();
+		for (int i = 0; i < size; ++i) {
+			final int index = i;
+			runnables.add(() -> counts.incrementAndGet(index));
+		}
+
+		final Concurrency concurrency = Concurrency.with(executor);
+		try (Concurrency c = concurrency) {
+			c.execute(runnables);
+		}
+
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(counts.get(i), 1, "Index " + i);
+		}
+		if (size > 0 && concurrency != Concurrency.SERIAL_EXECUTOR) {
+			Assert.assertTrue(concurrency.getChunkStatistics().getCount() > 0);
+		}
+	}
+
+	@DataProvider(name = "executors")
+	public Object[][] executors() {
+		final List<Object[]> executors = new ArrayList<>();
+		for (int size : new int[]{0, 1, 7, 100, 10_000}) {
+			executors.add(new Object[]{ForkJoinPool.commonPool(), size});
+			executors.add(new Object[]{SERVICE, size});
+			executors.add(new Object[]{(Executor)Runnable::run, size});
+			executors.add(new Object[]{Concurrency.SERIAL_EXECUTOR, size});
+		}
+		return executors.toArray(new Object[0][]);
+	}
+
+	@Test
+	public void expensiveRunnablesUseSmallChunks() {
+		final List<Runnable> runnables = new ArrayList<>(
+			Collections.nCopies(200, () -> spin(200_000))
+		);
+
+		final Concurrency concurrency = Concurrency.with(SERVICE);
+		try (Concurrency c = concurrency) {
+			c.execute(runnables);
+		}
+
+		// Every runnable exceeds the targeted chunk time, so every chunk
+		// should contain only one runnable.
+		Assert.assertEquals(concurrency.getChunkStatistics().getCount(), 200L);
+	}
+
+	@Test
+	public void cheapRunnablesUseLargeChunks() {
+		final List<Runnable> runnables = new ArrayList<>(
+			Collections.nCopies(100_000, () -> {})
+		);
+
+		final Concurrency concurrency = Concurrency.with(SERVICE);
+		try (Concurrency c = concurrency) {
+			c.execute(runnables);
+		}
+
+		Assert.assertTrue(
+			concurrency.getChunkStatistics().getCount() < 1_000,
+			"Chunk count: " + concurrency.getChunkStatistics().getCount()
+		);
+	}
+
+	// Busy waits for the given time. Unlike parking, which may return
+	// spuriously, it never takes less than the given time.
+	private static void spin(final long nanos) {
+		final long start = System.nanoTime();
+		while (System.nanoTime() - start < nanos) {
+			Thread.yield();
+		}
+	}
+
+}
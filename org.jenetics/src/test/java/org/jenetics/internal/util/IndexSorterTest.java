@@ -60,6 +60,9 @@ public class IndexSorterTest {
 
         Assert.assertEquals(indexHeapSortedValues, arraySorted);
 		Assert.assertEquals(indexInsertionSortedValues2, arraySorted);
+		Assert.assertEquals(indexSort(new QuickSorter(), values), arraySorted);
+		Assert.assertEquals(indexSort(new RadixSorter(), values), arraySorted);
+		Assert.assertEquals(indexSort(new ParallelSorter(), values), arraySorted);
     }
 
     @DataProvider(name = "specialArray")
@@ -102,6 +105,127 @@ public class IndexSorterTest {
         Assert.assertEquals(actual, expected);
 	}
 
+	@Test(dataProvider = "sizes")
+	public void stableSort(final Integer size) {
+		final double[] values = new Random(size).doubles(size)
+			.map(v -> Math.floor(v*10))
+			.toArray();
+
+		final int[] ascending = IndexSorter.stableSort(values, false);
+		final int[] descending = IndexSorter.stableSort(values, true);
+		for (int i = 1; i < size; ++i) {
+			final double a0 = values[ascending[i - 1]];
+			final double a1 = values[ascending[i]];
+			Assert.assertTrue(a0 < a1 || a0 == a1 && ascending[i - 1] < ascending[i]);
+
+			final double d0 = values[descending[i - 1]];
+			final double d1 = values[descending[i]];
+			Assert.assertTrue(d0 > d1 || d0 == d1 && descending[i - 1] < descending[i]);
+		}
+
+		final double[] expected = values.clone();
+		Arrays.sort(expected);
+		final double[] actual = new double[size];
+		for (int i = 0; i < size; ++i) {
+			actual[i] = values[ascending[i]];
+		}
+		Assert.assertEquals(actual, expected);
+	}
+
+	@Test
+	public void stableSortSpecialValues() {
+		final double[] values = {1.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY};
+		final int[] indexes = IndexSorter.stableSort(values, false);
+		Assert.assertEquals(indexes, new int[]{4, 2, 3, 0, 1});
+	}
+
+	@Test(dataProvider = "sizes")
+	public void stableTop(final Integer size) {
+		final double[] values = new Random(size).doubles(size)
+			.map(v -> Math.floor(v*10))
+			.toArray();
+
+		for (boolean descending : new boolean[]{true, false}) {
+			final int[] sorted = IndexSorter.stableSort(values, descending);
+			for (int k : new int[]{0, 1, size/3, size/2, size - 1, size}) {
+				if (k >= 0 && k <= size) {
+					Assert.assertEquals(
+						IndexSorter.stableTop(values, k, descending),
+						Arrays.copyOf(sorted, k)
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void stableTopSpecialValues() {
+		final double[] values = {
+			1.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, 1.0, Double.NaN
+		};
+		for (int k = 0; k <= values.length; ++k) {
+			Assert.assertEquals(
+				IndexSorter.stableTop(values, k, true),
+				Arrays.copyOf(IndexSorter.stableSort(values, true), k)
+			);
+			Assert.assertEquals(
+				IndexSorter.stableTop(values, k, false),
+				Arrays.copyOf(IndexSorter.stableSort(values, false), k)
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void stableTopInvalidCount() {
+		IndexSorter.stableTop(new double[3], 4, true);
+	}
+
+	@Test
+	public void radixSortSpecialValues() {
+		final double[] values = {
+			1.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY,
+			-1.5, Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE
+		};
+
+		final double[] expected = arraySort(values);
+		Assert.assertEquals(indexSort(new RadixSorter(), values), expected);
+	}
+
+	@Test
+	public void sortDuplicateValues() {
+		final double[] values = new Random(7).doubles(50_000)
+			.map(v -> Math.floor(v*5))
+			.toArray();
+
+		final double[] expected = arraySort(values);
+		Assert.assertEquals(indexSort(new QuickSorter(), values), expected);
+		Assert.assertEquals(indexSort(new RadixSorter(), values), expected);
+		Assert.assertEquals(indexSort(new ParallelSorter(), values), expected);
+	}
+
+	@Test
+	public void sorter() {
+		Assert.assertSame(IndexSorter.sorter(10), IndexSorter.INSERTION_SORTER);
+		Assert.assertSame(IndexSorter.sorter(1000), IndexSorter.QUICK_SORTER);
+		Assert.assertSame(IndexSorter.sorter(100_000), IndexSorter.RADIX_SORTER);
+	}
+
+	@Test
+	public void isSorted() {
+		Assert.assertTrue(IndexSorter.isSorted(new double[0], true));
+		Assert.assertTrue(IndexSorter.isSorted(new double[]{3, 2, 2, 1}, true));
+		Assert.assertFalse(IndexSorter.isSorted(new double[]{3, 2, 2, 1}, false));
+		Assert.assertTrue(IndexSorter.isSorted(new double[]{1, 2, 2, 3}, false));
+		Assert.assertFalse(IndexSorter.isSorted(new double[]{1, 3, 2}, false));
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{0}, {1}, {2}, {3}, {5}, {33}, {1000}, {10_000}
+		};
+	}
+
 	@DataProvider(name = "sorters")
 	public Object[][] sorters() {
 		return new Object[][] {
@@ -116,7 +240,21 @@ public class IndexSorterTest {
 			{new HeapSorter(), 5},
 			{new HeapSorter(), 11},
 			{new HeapSorter(), 1000},
-			{new HeapSorter(), 10_000}
+			{new HeapSorter(), 10_000},
+			{new QuickSorter(), 1},
+			{new QuickSorter(), 2},
+			{new QuickSorter(), 3},
+			{new QuickSorter(), 33},
+			{new QuickSorter(), 1000},
+			{new QuickSorter(), 10_000},
+			{new RadixSorter(), 1},
+			{new RadixSorter(), 2},
+			{new RadixSorter(), 33},
+			{new RadixSorter(), 10_000},
+			{new RadixSorter(), 200_000},
+			{new ParallelSorter(), 1},
+			{new ParallelSorter(), 1000},
+			{new ParallelSorter(), 200_000}
 		};
 	}
 